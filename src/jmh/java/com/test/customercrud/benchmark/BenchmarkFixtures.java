@@ -0,0 +1,60 @@
+package com.test.customercrud.benchmark;
+
+import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import com.test.customercrud.model.Customer;
+import java.util.List;
+import java.util.stream.LongStream;
+
+final class BenchmarkFixtures {
+    static final String FULL_NAME = "John Doe";
+    static final String NEW_NAME = "Jane Doe";
+    static final String PHONE = "+380123321123";
+
+    private BenchmarkFixtures() {
+    }
+
+    static CustomerCreateRequestDTO createRequest(String email) {
+        return CustomerCreateRequestDTO.builder()
+                .fullName(FULL_NAME)
+                .email(email)
+                .phone(PHONE)
+                .build();
+    }
+
+    static CustomerUpdateRequestDTO updateRequest(Long id, String fullName) {
+        return CustomerUpdateRequestDTO.builder()
+                .id(id)
+                .fullName(fullName)
+                .phone(PHONE)
+                .build();
+    }
+
+    static Customer customer(long id) {
+        return Customer.builder()
+                .id(id)
+                .created(System.currentTimeMillis())
+                .updated(System.currentTimeMillis())
+                .fullName(FULL_NAME)
+                .email(email(id))
+                .phone(PHONE)
+                .isActive(true)
+                .build();
+    }
+
+    static List<CustomerResponseDTO> responses(int size) {
+        return LongStream.rangeClosed(1, size)
+                .mapToObj(id -> CustomerResponseDTO.builder()
+                        .id(id)
+                        .fullName(FULL_NAME)
+                        .email(email(id))
+                        .phone(PHONE)
+                        .build())
+                .toList();
+    }
+
+    static String email(long id) {
+        return "customer" + id + "@example.com";
+    }
+}
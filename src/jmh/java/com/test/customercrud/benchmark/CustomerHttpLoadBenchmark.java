@@ -0,0 +1,112 @@
+package com.test.customercrud.benchmark;
+
+import com.test.customercrud.CustomerCrudApplication;
+import com.test.customercrud.dto.CustomerBatchItemResultDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.service.CustomerService;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Load test comparing thread-per-request Tomcat with virtual-thread request handling.
+ * Sample mode reports p50/p90/p99/p99.9 latency next to throughput for each mode. The client
+ * runs 256 concurrent callers against a Tomcat pool capped at 50 platform threads and a
+ * Hikari pool of 20 connections, so the platform-thread run saturates its worker pool.
+ * Request throttling is disabled so the scores measure served requests rather than 429s; any
+ * non-2xx response fails the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(256)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class CustomerHttpLoadBenchmark {
+    private static final int SEEDED_CUSTOMERS = 10_000;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CustomerCrudApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--server.tomcat.threads.max=50",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.cache.type=none",
+                        "--customer.throttling.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/customers";
+        ids = context.getBean(CustomerService.class)
+                .createAll(LongStream.rangeClosed(1, SEEDED_CUSTOMERS)
+                        .mapToObj(id -> BenchmarkFixtures.createRequest(BenchmarkFixtures.email(id)))
+                        .toList())
+                .stream()
+                .map(CustomerBatchItemResultDTO::getCustomer)
+                .map(CustomerResponseDTO::getId)
+                .toList();
+        httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getById() throws IOException, InterruptedException {
+        Long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        return send(baseUrl + "/" + id);
+    }
+
+    @Benchmark
+    public int getPage() throws IOException, InterruptedException {
+        return send(baseUrl + "?limit=50");
+    }
+
+    private int send(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status < 200 || status >= 300) {
+            throw new IllegalStateException("Unexpected status " + status + " for " + url);
+        }
+        return status;
+    }
+}
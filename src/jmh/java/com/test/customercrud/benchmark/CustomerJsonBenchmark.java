@@ -0,0 +1,85 @@
+package com.test.customercrud.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.ErrorDto;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomerJsonBenchmark {
+    @Param({"1", "100", "10000"})
+    private int size;
+    @Param({"false", "true"})
+    private boolean blackbird;
+
+    private ObjectWriter listWriter;
+    private ObjectWriter customerWriter;
+    private ObjectWriter errorWriter;
+    private ObjectReader createRequestReader;
+    private List<CustomerResponseDTO> customers;
+    private ErrorDto error;
+    private byte[] createRequest;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (blackbird) {
+            builder.modulesToInstall(BlackbirdModule.class);
+        }
+        ObjectMapper objectMapper = builder.build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, CustomerResponseDTO.class));
+        customerWriter = objectMapper.writerFor(CustomerResponseDTO.class);
+        errorWriter = objectMapper.writerFor(ErrorDto.class);
+        createRequestReader = objectMapper.readerFor(CustomerCreateRequestDTO.class);
+        customers = BenchmarkFixtures.responses(size);
+        error = new ErrorDto();
+        error.setId("2f1c7d3e-9a4b-4c8e-b5d6-0e1f2a3b4c5d");
+        error.setMessage("Customer not found with id: 1");
+        createRequest = objectMapper.writeValueAsBytes(BenchmarkFixtures.createRequest(BenchmarkFixtures.email(1)));
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(customers);
+    }
+
+    @Benchmark
+    public byte[] serializeOne() throws JsonProcessingException {
+        return customerWriter.writeValueAsBytes(customers.get(0));
+    }
+
+    @Benchmark
+    public byte[] serializeError() throws JsonProcessingException {
+        return errorWriter.writeValueAsBytes(error);
+    }
+
+    @Benchmark
+    public CustomerCreateRequestDTO deserializeCreateRequest() throws IOException {
+        return createRequestReader.readValue(createRequest);
+    }
+}
@@ -0,0 +1,55 @@
+package com.test.customercrud.benchmark;
+
+import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import com.test.customercrud.mapper.CustomerMapper;
+import com.test.customercrud.mapper.CustomerMapperImpl;
+import com.test.customercrud.model.Customer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomerMapperBenchmark {
+    private final CustomerMapper mapper = new CustomerMapperImpl();
+    private CustomerCreateRequestDTO createRequest;
+    private CustomerUpdateRequestDTO updateRequest;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        createRequest = BenchmarkFixtures.createRequest(BenchmarkFixtures.email(1));
+        updateRequest = BenchmarkFixtures.updateRequest(1L, BenchmarkFixtures.NEW_NAME);
+        customer = BenchmarkFixtures.customer(1);
+    }
+
+    @Benchmark
+    public Customer toCustomer() {
+        return mapper.toCustomer(createRequest);
+    }
+
+    @Benchmark
+    public CustomerResponseDTO toCustomerResponseDTO() {
+        return mapper.toCustomerResponseDTO(customer);
+    }
+
+    @Benchmark
+    public Customer updateCustomerFromDTO() {
+        mapper.updateCustomerFromDTO(updateRequest, customer);
+        return customer;
+    }
+}
@@ -0,0 +1,104 @@
+package com.test.customercrud.benchmark;
+
+import com.test.customercrud.CustomerCrudApplication;
+import com.test.customercrud.config.CachingConfig;
+import com.test.customercrud.dto.CustomerBatchItemResultDTO;
+import com.test.customercrud.dto.CustomerPageResponseDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.service.CustomerService;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs the service against the in-memory H2 database of the "test" profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CustomerServiceBenchmark {
+    private static final int SEEDED_CUSTOMERS = 10_000;
+    private static final int PAGE_SIZE = 50;
+
+    private final AtomicLong emailSequence = new AtomicLong(SEEDED_CUSTOMERS);
+    private ConfigurableApplicationContext context;
+    private CustomerService customerService;
+    private CacheManager cacheManager;
+    private List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CustomerCrudApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+        customerService = context.getBean(CustomerService.class);
+        cacheManager = context.getBean(CacheManager.class);
+        ids = customerService.createAll(LongStream.rangeClosed(1, SEEDED_CUSTOMERS)
+                        .mapToObj(id -> BenchmarkFixtures.createRequest(BenchmarkFixtures.email(id)))
+                        .toList())
+                .stream()
+                .map(CustomerBatchItemResultDTO::getCustomer)
+                .map(CustomerResponseDTO::getId)
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CustomerResponseDTO getCached() {
+        return customerService.get(randomId());
+    }
+
+    @Benchmark
+    public CustomerResponseDTO getUncached() {
+        cacheManager.getCache(CachingConfig.CUSTOMERS_CACHE).clear();
+        return customerService.get(randomId());
+    }
+
+    @Benchmark
+    public CustomerPageResponseDTO getAllFirstPage() {
+        return customerService.getAll(null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CustomerResponseDTO create() {
+        return customerService.create(BenchmarkFixtures.createRequest(
+                BenchmarkFixtures.email(emailSequence.incrementAndGet())));
+    }
+
+    @Benchmark
+    public CustomerResponseDTO update() {
+        Long id = randomId();
+        return customerService.update(id, BenchmarkFixtures.updateRequest(id,
+                "Name " + emailSequence.incrementAndGet() % 1000), null);
+    }
+
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
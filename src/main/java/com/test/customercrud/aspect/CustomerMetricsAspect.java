@@ -0,0 +1,72 @@
+package com.test.customercrud.aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class CustomerMetricsAspect {
+    static final String CONTROLLER_TIMER = "customer.controller";
+    static final String SERVICE_TIMER = "customer.service";
+    static final String REPOSITORY_TIMER = "customer.repository";
+    private static final String SUCCESS = "SUCCESS";
+    private static final String ERROR = "ERROR";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("within(com.test.customercrud.controller.CustomerController)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(CONTROLLER_TIMER, joinPoint);
+    }
+
+    @Around("within(com.test.customercrud.service.Impl.CustomerServiceImpl)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    @Around("this(com.test.customercrud.repository.CustomerRepository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = SUCCESS;
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = ERROR;
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timer(new TimerKey(name, joinPoint.getSignature().getName(), outcome, exception)));
+        }
+    }
+
+    private Timer timer(TimerKey key) {
+        Timer timer = timers.get(key);
+        if (timer != null) {
+            return timer;
+        }
+        return timers.computeIfAbsent(key, k -> Timer.builder(k.name())
+                .tag("operation", k.operation())
+                .tag("outcome", k.outcome())
+                .tag("exception", k.exception())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private record TimerKey(String name, String operation, String outcome, String exception) {
+    }
+}
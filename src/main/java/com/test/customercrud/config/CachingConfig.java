@@ -0,0 +1,43 @@
+package com.test.customercrud.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+@Configuration
+// Runs outside the transaction advice so entries are only written after commit.
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+@EnableConfigurationProperties(CacheProperties.class)
+public class CachingConfig {
+    public static final String CUSTOMERS_CACHE = "customers";
+    // Longer than a load normally takes, including the 5 s Hikari connection timeout.
+    static final Duration LOAD_TIMEOUT = Duration.ofSeconds(10);
+
+    @Bean
+    public CaffeineCacheManager cacheManager(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CoalescingCaffeineCache(name, cache, isAllowNullValues(), LOAD_TIMEOUT,
+                        meterRegistry);
+            }
+        };
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            cacheManager.setCacheSpecification(spec);
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return cacheManager;
+    }
+}
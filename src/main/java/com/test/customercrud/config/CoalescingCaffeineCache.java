@@ -0,0 +1,134 @@
+package com.test.customercrud.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * Caffeine cache whose synchronized loads are coalesced per key: on a miss the first caller runs
+ * the loader and concurrent callers for the same key wait for its result or exception instead of
+ * loading again. Unlike Caffeine's own compute, no map lock is held while the loader runs.
+ * <p>
+ * Writes through {@link #put}, {@link #evict} and {@link #clear} detach the in-flight load, so
+ * later callers start a fresh one and the detached result is never cached. Callers wait at most
+ * {@code loadTimeout} for another caller's load.
+ */
+public class CoalescingCaffeineCache extends CaffeineCache {
+    static final String LOADS_COUNTER = "customer.cache.loads";
+    static final String COALESCED_COUNTER = "customer.cache.coalesced";
+
+    private final ConcurrentMap<Object, Flight> flights = new ConcurrentHashMap<>();
+    private final Counter loads;
+    private final Counter coalesced;
+    private final Duration loadTimeout;
+
+    public CoalescingCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues,
+                                   Duration loadTimeout, MeterRegistry meterRegistry) {
+        super(name, cache, allowNullValues);
+        this.loadTimeout = loadTimeout;
+        this.loads = meterRegistry.counter(LOADS_COUNTER, "cache", name);
+        this.coalesced = meterRegistry.counter(COALESCED_COUNTER, "cache", name);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        Flight flight = new Flight();
+        Flight leader = flights.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalesced.increment();
+            return (T) leader.await(key, valueLoader, loadTimeout);
+        }
+
+        loads.increment();
+        try {
+            T value = valueLoader.call();
+            if (!flight.detached) {
+                super.put(key, value);
+                if (flight.detached) {
+                    super.evict(key);
+                }
+            }
+            flight.result.complete(value);
+            return value;
+        } catch (Exception e) {
+            flight.result.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        detach(key);
+        super.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        detach(key);
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        detach(key);
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        flights.keySet().forEach(this::detach);
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        flights.keySet().forEach(this::detach);
+        return super.invalidate();
+    }
+
+    private void detach(Object key) {
+        Flight flight = flights.remove(key);
+        if (flight != null) {
+            flight.detached = true;
+        }
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile boolean detached;
+
+        private Object await(Object key, Callable<?> valueLoader, Duration timeout) {
+            try {
+                return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            } catch (TimeoutException e) {
+                throw new ValueRetrievalException(key, valueLoader, new QueryTimeoutException(
+                        "Timed out after %d ms waiting for the in-flight load".formatted(timeout.toMillis()), e));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.test.customercrud.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "customer.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            DataSourceRoutingProperties routing) {
+        List<DataSource> replicas = IntStream.range(0, routing.getReplicas().size())
+                .<DataSource>mapToObj(i -> replicaDataSource(i, routing.getReplicas().get(i), primaryDataSource,
+                        routing))
+                .toList();
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                routing.getReadYourWritesWindow(), routing.getHealthCheckTimeout());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReadYourWritesFilter(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource replicaDataSource(int index, DataSourceRoutingProperties.Replica replica,
+                                                      HikariDataSource primary,
+                                                      DataSourceRoutingProperties routing) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.getUsername());
+        dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.getPassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(Math.max(250, routing.getHealthCheckTimeout().toMillis()));
+        dataSource.setReadOnly(true);
+        // A replica that is down at startup must not fail the boot; the health check takes it out.
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setPoolName("replica-" + index);
+        return dataSource;
+    }
+}
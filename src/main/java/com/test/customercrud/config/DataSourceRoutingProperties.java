@@ -0,0 +1,25 @@
+package com.test.customercrud.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("customer.datasource.routing")
+public class DataSourceRoutingProperties {
+    private boolean enabled;
+    private List<Replica> replicas = new ArrayList<>();
+    private Duration readYourWritesWindow = Duration.ZERO;
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,18 @@
+package com.test.customercrud.config;
+
+import com.test.customercrud.service.Impl.EmailBloomFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EmailFilterProperties.class)
+public class EmailFilterConfig {
+
+    @Bean
+    public EmailBloomFilter emailBloomFilter(EmailFilterProperties properties, MeterRegistry meterRegistry) {
+        return new EmailBloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveProbability(),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,14 @@
+package com.test.customercrud.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("customer.email-filter")
+public class EmailFilterProperties {
+    /**
+     * Number of emails the filter is sized for. Beyond it the false-positive rate degrades gradually.
+     */
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveProbability = 0.01;
+}
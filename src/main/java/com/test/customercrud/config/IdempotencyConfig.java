@@ -0,0 +1,25 @@
+package com.test.customercrud.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.customercrud.service.idempotency.IdempotencyStore;
+import com.test.customercrud.service.idempotency.InMemoryIdempotencyStore;
+import com.test.customercrud.service.idempotency.JdbcIdempotencyStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties,
+                                             ObjectProvider<JdbcTemplate> jdbcTemplate, ObjectMapper objectMapper) {
+        return switch (properties.getStore()) {
+            case MEMORY -> new InMemoryIdempotencyStore(properties.getTtl(), properties.getMaximumSize());
+            case JDBC -> new JdbcIdempotencyStore(jdbcTemplate.getObject(), objectMapper, properties.getTtl());
+        };
+    }
+}
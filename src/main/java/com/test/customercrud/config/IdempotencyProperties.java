@@ -0,0 +1,27 @@
+package com.test.customercrud.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("customer.idempotency")
+public class IdempotencyProperties {
+    /**
+     * Where completed responses are kept. Concurrent duplicates are coalesced per instance only: with
+     * {@code JDBC}, instances share stored responses but do not reserve a key while its request runs.
+     */
+    private Store store = Store.MEMORY;
+    private Duration ttl = Duration.ofHours(24);
+    private long maximumSize = 100_000;
+    /**
+     * How long a duplicate request waits for the first one before getting a 409.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    private Duration purgeInterval = Duration.ofMinutes(10);
+
+    public enum Store {
+        MEMORY,
+        JDBC
+    }
+}
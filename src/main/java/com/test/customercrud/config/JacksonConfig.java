@@ -0,0 +1,21 @@
+package com.test.customercrud.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Replaces Jackson's reflective getter/setter/constructor calls on the DTOs with generated
+     * lambdas. Spring Boot registers every {@link Module} bean with the application ObjectMapper.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "customer.json.blackbird", name = "enabled", havingValue = "true")
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
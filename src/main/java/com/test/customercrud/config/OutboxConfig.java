@@ -0,0 +1,26 @@
+package com.test.customercrud.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.customercrud.service.sink.CustomerEventSink;
+import com.test.customercrud.service.sink.FileCustomerEventSink;
+import com.test.customercrud.service.sink.InMemoryCustomerEventSink;
+import com.test.customercrud.service.sink.LoggingCustomerEventSink;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    public CustomerEventSink customerEventSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        return switch (properties.getSink()) {
+            case LOG -> new LoggingCustomerEventSink(objectMapper);
+            case FILE -> new FileCustomerEventSink(properties.getFile(), objectMapper);
+            case MEMORY -> new InMemoryCustomerEventSink();
+        };
+    }
+}
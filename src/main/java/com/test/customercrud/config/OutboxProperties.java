@@ -0,0 +1,24 @@
+package com.test.customercrud.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("customer.outbox")
+public class OutboxProperties {
+    private Sink sink = Sink.LOG;
+    private Path file = Path.of("customer-events.ndjson");
+    private boolean publisherEnabled = true;
+    private int batchSize = 500;
+    private Duration publishInterval = Duration.ofSeconds(1);
+    private Duration purgeInterval = Duration.ofHours(1);
+    private Duration retention = Duration.ofDays(7);
+
+    public enum Sink {
+        LOG,
+        FILE,
+        MEMORY
+    }
+}
@@ -0,0 +1,107 @@
+package com.test.customercrud.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+@Slf4j
+@Configuration
+@Profile("prod")
+@RequiredArgsConstructor
+public class ProductionPersistenceConfig {
+    static final String MAXIMUM_POOL_SIZE_PROPERTY = "spring.datasource.hikari.maximum-pool-size";
+    // The auto-configured pool, or the primary pool when read replicas are routed. Replica pools keep their own size.
+    private static final Set<String> PRIMARY_POOLS = Set.of("dataSource", "primaryDataSource");
+    private static final String HIBERNATE = "spring.jpa.properties.hibernate.";
+    private static final String DATA_SOURCE_PROPERTIES = "spring.datasource.hikari.data-source-properties.";
+
+    private final Environment environment;
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        Binder binder = Binder.get(environment);
+        if (binder.bind(MAXIMUM_POOL_SIZE_PROPERTY, Integer.class).isBound()) {
+            return new HikariPoolSizer(0);
+        }
+        int bulkheadBudget = binder.bind("customer.throttling", ThrottlingProperties.class)
+                .map(ThrottlingProperties::concurrencyBudget)
+                .orElse(0);
+        return new HikariPoolSizer(poolSize(Runtime.getRuntime().availableProcessors(), bulkheadBudget));
+    }
+
+    /**
+     * HikariCP's sizing rule of thumb, two connections per core plus one for the disk, raised to the
+     * throttling bulkhead budget so every bulkhead slot can hold a connection.
+     */
+    static int poolSize(int cpus, int bulkheadBudget) {
+        return Math.max(cpus * 2 + 1, bulkheadBudget);
+    }
+
+    @PostConstruct
+    void validate() {
+        List<String> problems = validate(environment);
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Invalid production persistence settings: "
+                    + String.join(", ", problems));
+        }
+        log.info("Production persistence settings validated, JDBC batch size {}",
+                environment.getProperty(HIBERNATE + "jdbc.batch_size"));
+    }
+
+    static List<String> validate(Environment environment) {
+        List<String> problems = new ArrayList<>();
+        requireValue(environment, problems, "spring.jpa.show-sql", "false");
+        requireValue(environment, problems, HIBERNATE + "format_sql", "false");
+        requireValue(environment, problems, HIBERNATE + "order_inserts", "true");
+        requireValue(environment, problems, HIBERNATE + "order_updates", "true");
+        requireValue(environment, problems, HIBERNATE + "query.in_clause_parameter_padding", "true");
+        if (environment.getProperty(HIBERNATE + "jdbc.batch_size", Integer.class, 0) < 2) {
+            problems.add(HIBERNATE + "jdbc.batch_size must be at least 2");
+        }
+        if (environment.getProperty(HIBERNATE + "query.plan_cache_max_size", Integer.class, 0) < 1) {
+            problems.add(HIBERNATE + "query.plan_cache_max_size must be set");
+        }
+        if (environment.getProperty("spring.datasource.url", "").startsWith("jdbc:mysql:")) {
+            requireValue(environment, problems, DATA_SOURCE_PROPERTIES + "useServerPrepStmts", "true");
+            requireValue(environment, problems, DATA_SOURCE_PROPERTIES + "cachePrepStmts", "true");
+            requireValue(environment, problems, DATA_SOURCE_PROPERTIES + "rewriteBatchedStatements", "true");
+        }
+        return problems;
+    }
+
+    /**
+     * Fills in the primary pool size when {@code spring.datasource.hikari.maximum-pool-size} is not set. A
+     * {@code poolSize} of 0 leaves every pool as configured.
+     */
+    private record HikariPoolSizer(int poolSize) implements BeanPostProcessor, Ordered {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (poolSize > 0 && bean instanceof HikariDataSource dataSource && PRIMARY_POOLS.contains(beanName)) {
+                dataSource.setMaximumPoolSize(poolSize);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    private static void requireValue(Environment environment, List<String> problems, String key, String expected) {
+        if (!expected.equalsIgnoreCase(environment.getProperty(key, ""))) {
+            problems.add(key + " must be " + expected);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.test.customercrud.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Routing hints for {@link ReplicaRoutingDataSource}. Without routing enabled they have no effect.
+ */
+public final class ReadRouting {
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    /**
+     * Runs {@code action} with its reads on the primary. Used for loads that fill a shared cache,
+     * which must not pick up a replica's pre-write row right after an eviction.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            }
+        }
+    }
+
+    static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.test.customercrud.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Opens a read-your-writes session per request. A committed write sets a cookie holding the time
+ * until which the client's reads go to the primary, so a follow-up GET sees its own write.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    static final String COOKIE_NAME = "customer-primary-until";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        routingDataSource.openSession(primaryUntil(request), primaryUntil -> {
+            if (!response.isCommitted()) {
+                response.addCookie(cookie(primaryUntil));
+            }
+        });
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            routingDataSource.closeSession();
+        }
+    }
+
+    private Cookie cookie(long primaryUntil) {
+        Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(primaryUntil));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (routingDataSource.getReadYourWritesWindowMillis() + 999) / 1000));
+        return cookie;
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
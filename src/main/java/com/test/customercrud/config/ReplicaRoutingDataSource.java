@@ -0,0 +1,220 @@
+package com.test.customercrud.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to a healthy replica (round robin) and everything else to the
+ * primary. Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the connection is fetched after the transaction's read-only flag has been set.
+ * <p>
+ * Read-your-writes is tracked per session, not globally: {@link ReadYourWritesFilter} opens one
+ * for each HTTP request, and reads in that session go to the primary until the window after its
+ * last committed write has passed. Reads inside {@link ReadRouting#onPrimary} always use the primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long readYourWritesWindowMillis;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ThreadLocal<Session> sessions = new ThreadLocal<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    Duration readYourWritesWindow, Duration healthCheckTimeout) {
+        this.primary = primary;
+        this.replicas = IntStream.range(0, replicas.size())
+                .mapToObj(i -> new Replica("replica-" + i, replicas.get(i)))
+                .toList();
+        this.readYourWritesWindowMillis = readYourWritesWindow.toMillis();
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas.forEach(replica -> targets.put(replica.key, replica.dataSource));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            return PRIMARY;
+        }
+        Session session = sessions.get();
+        if (ReadRouting.isPrimaryRequired()
+                || session != null && System.currentTimeMillis() < session.primaryUntilMillis) {
+            return PRIMARY;
+        }
+        Replica replica = nextHealthyReplica();
+        return replica == null ? PRIMARY : replica.key;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target == primary) {
+            return primary.getConnection();
+        }
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            markDown(target, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target == primary) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return target.getConnection(username, password);
+        } catch (SQLException e) {
+            markDown(target, e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /**
+     * Starts a read-your-writes session on the current thread. Reads go to the primary until
+     * {@code primaryUntilMillis}; each committed write extends that by the window and is reported
+     * to {@code onWrite} with the new deadline.
+     */
+    public void openSession(long primaryUntilMillis, LongConsumer onWrite) {
+        long latest = System.currentTimeMillis() + readYourWritesWindowMillis;
+        sessions.set(new Session(Math.min(primaryUntilMillis, latest), onWrite));
+    }
+
+    public void closeSession() {
+        sessions.remove();
+    }
+
+    public long getReadYourWritesWindowMillis() {
+        return readYourWritesWindowMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${customer.datasource.routing.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(healthCheckTimeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (replica.healthy != healthy) {
+                log.info("Replica {} is now {}", replica.key, healthy ? "up" : "down");
+                replica.healthy = healthy;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void recordWriteOnCommit() {
+        Session session = sessions.get();
+        if (session != null && readYourWritesWindowMillis > 0
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    session.primaryUntilMillis = System.currentTimeMillis() + readYourWritesWindowMillis;
+                    session.onWrite.accept(session.primaryUntilMillis);
+                }
+            });
+        }
+    }
+
+    private void markDown(DataSource dataSource, SQLException e) {
+        if (!isConnectivityFailure(e)) {
+            // e.g. the replica pool timed out under load: fall back for this read, keep the replica
+            log.debug("Replica connection unavailable, reading from the primary: {}", e.getMessage());
+            return;
+        }
+        replicas.stream()
+                .filter(replica -> replica.dataSource == dataSource)
+                .forEach(replica -> {
+                    log.warn("Replica {} failed, routing reads to the primary: {}", replica.key, e.getMessage());
+                    replica.healthy = false;
+                });
+    }
+
+    /**
+     * Connection-class SQL states (08xxx) or a non-transient connection error anywhere in the cause
+     * chain. Hikari reports a pool timeout without either unless the pool failed to connect.
+     */
+    private static boolean isConnectivityFailure(SQLException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null
+                    && sqlException.getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Session {
+        private final LongConsumer onWrite;
+        private long primaryUntilMillis;
+
+        private Session(long primaryUntilMillis, LongConsumer onWrite) {
+            this.primaryUntilMillis = primaryUntilMillis;
+            this.onWrite = onWrite;
+        }
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
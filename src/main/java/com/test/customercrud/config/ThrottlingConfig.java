@@ -0,0 +1,52 @@
+package com.test.customercrud.config;
+
+import com.test.customercrud.controller.ThrottlingInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "customer.throttling", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+@EnableConfigurationProperties(ThrottlingProperties.class)
+@RequiredArgsConstructor
+public class ThrottlingConfig implements WebMvcConfigurer {
+    private final ThrottlingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<DataSource> dataSource;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        checkPoolBudget();
+        registry.addInterceptor(new ThrottlingInterceptor(properties, meterRegistry))
+                .addPathPatterns("/api/**");
+    }
+
+    private void checkPoolBudget() {
+        int budget = properties.concurrencyBudget();
+        DataSource pool = dataSource.getIfAvailable();
+        try {
+            if (pool != null && pool.isWrapperFor(HikariDataSource.class)) {
+                int poolSize = pool.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                if (budget > poolSize) {
+                    log.warn("Bulkheads allow {} concurrent requests but the connection pool has {} slots; "
+                            + "heavy endpoints can still starve the others", budget, poolSize);
+                }
+            }
+        } catch (SQLException e) {
+            log.debug("Could not read the connection pool size", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.test.customercrud.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("customer.throttling")
+public class ThrottlingProperties {
+    private boolean enabled = true;
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    /**
+     * Connection pool slots the bulkheads can hold at once. 0 when throttling is off.
+     */
+    public int concurrencyBudget() {
+        return enabled
+                ? endpoints.values().stream().mapToInt(Endpoint::getMaxConcurrent).sum()
+                : 0;
+    }
+
+    @Data
+    public static class Endpoint {
+        /**
+         * Concurrent requests allowed, budgeted in connection pool slots. 0 means unlimited.
+         */
+        private int maxConcurrent;
+        /**
+         * Sustained request rate. 0 means unlimited.
+         */
+        private double permitsPerSecond;
+        /**
+         * Requests allowed in a burst on top of the sustained rate. Defaults to one second's worth.
+         */
+        private int burst;
+    }
+}
@@ -1,58 +1,255 @@
 package com.test.customercrud.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.customercrud.dto.CustomerBatchItemResultDTO;
+import com.test.customercrud.dto.CustomerBulkDeleteRequestDTO;
+import com.test.customercrud.dto.CustomerBulkItemResultDTO;
+import com.test.customercrud.dto.CustomerBulkPatchRequestDTO;
+import com.test.customercrud.dto.CustomerChangesResponseDTO;
 import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerLookupRequestDTO;
+import com.test.customercrud.dto.CustomerLookupResponseDTO;
+import com.test.customercrud.dto.CustomerPageResponseDTO;
 import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerSearchMatch;
+import com.test.customercrud.dto.CustomerSearchRequestDTO;
+import com.test.customercrud.dto.CustomerSliceResponseDTO;
 import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import com.test.customercrud.dto.CustomerUpsertRequestDTO;
+import com.test.customercrud.dto.CustomerUpsertResultDTO;
+import com.test.customercrud.dto.CustomerUpsertStatus;
+import com.test.customercrud.service.CustomerEventService;
 import com.test.customercrud.service.CustomerService;
+import com.test.customercrud.service.IdempotencyService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/customers")
 @RequiredArgsConstructor
 public class CustomerController {
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int STREAM_FLUSH_INTERVAL = 500;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final CustomerService customerService;
+    private final CustomerEventService customerEventService;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
 
+    @Throttled(Throttled.WRITE)
     @PostMapping
-    public ResponseEntity<CustomerResponseDTO> createCustomer(@Valid @RequestBody CustomerCreateRequestDTO dto) {
-        CustomerResponseDTO customerResponseDTO = customerService.create(dto);
-        return new ResponseEntity<>(customerResponseDTO, HttpStatus.CREATED);
+    public ResponseEntity<CustomerResponseDTO> createCustomer(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CustomerCreateRequestDTO dto) {
+        return idempotencyService.execute(idempotencyKey, "POST /api/customers", dto, () -> {
+            CustomerResponseDTO customerResponseDTO = customerService.create(dto);
+            return new ResponseEntity<>(customerResponseDTO, HttpStatus.CREATED);
+        });
+    }
+
+    @Throttled(Throttled.BULK_WRITE)
+    @PostMapping("/batch")
+    public ResponseEntity<List<CustomerBatchItemResultDTO>> createCustomers(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<CustomerCreateRequestDTO> dtos) {
+        List<CustomerBatchItemResultDTO> results = customerService.createAll(dtos);
+        return ResponseEntity.ok(results);
     }
 
+    @Throttled(Throttled.SCAN)
     @GetMapping
-    public ResponseEntity<List<CustomerResponseDTO>> getAllCustomers() {
-        List<CustomerResponseDTO> customers = customerService.getAll();
+    public ResponseEntity<CustomerPageResponseDTO> getAllCustomers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        CustomerPageResponseDTO customers = customerService.getAll(cursor, limit);
+        return ResponseEntity.ok(customers);
+    }
+
+    @Throttled(Throttled.SCAN)
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllCustomers() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                generator.flush();
+                AtomicInteger written = new AtomicInteger();
+                customerService.exportAll(customer -> writeElement(generator, customer, written.incrementAndGet()));
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @Throttled(Throttled.SCAN)
+    @GetMapping("/search")
+    public ResponseEntity<CustomerSliceResponseDTO> searchCustomers(
+            @RequestParam(required = false) String fullName,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String phone,
+            @RequestParam(defaultValue = "PREFIX") CustomerSearchMatch match,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        CustomerSliceResponseDTO customers = customerService.search(CustomerSearchRequestDTO.builder()
+                .fullName(fullName)
+                .email(email)
+                .phone(phone)
+                .match(match)
+                .page(page)
+                .size(size)
+                .build());
         return ResponseEntity.ok(customers);
     }
 
+    @Throttled(Throttled.SCAN)
+    @GetMapping("/changes")
+    public ResponseEntity<CustomerChangesResponseDTO> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit) {
+        CustomerChangesResponseDTO changes = customerEventService.getChanges(since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    @Throttled(Throttled.SCAN)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCustomers() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                customerService.exportAll(customer -> writeLine(generator, customer));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Throttled(Throttled.LOOKUP)
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerResponseDTO> getCustomerById(@PathVariable Long id) {
+    public ResponseEntity<CustomerResponseDTO> getCustomerById(@PathVariable Long id, WebRequest request) {
         CustomerResponseDTO customerResponseDTO = customerService.get(id);
-        return ResponseEntity.ok(customerResponseDTO);
+        String eTag = CustomerETags.format(id, customerResponseDTO.getVersion());
+        if (request.checkNotModified(eTag, customerResponseDTO.getUpdated())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(customerResponseDTO.getUpdated())
+                .body(customerResponseDTO);
     }
 
+    @Throttled(Throttled.MULTI_GET)
+    @PostMapping("/lookup")
+    public ResponseEntity<CustomerLookupResponseDTO> lookupCustomers(
+            @Valid @RequestBody CustomerLookupRequestDTO dto) {
+        CustomerLookupResponseDTO customers = customerService.lookup(dto.getIds());
+        return ResponseEntity.ok(customers);
+    }
+
+    @Throttled(Throttled.WRITE)
     @PutMapping("/{id}")
     public ResponseEntity<CustomerResponseDTO> updateCustomer(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CustomerUpdateRequestDTO dto) {
-        CustomerResponseDTO customerResponseDTO = customerService.update(id, dto);
-        return ResponseEntity.ok(customerResponseDTO);
+        return idempotencyService.execute(idempotencyKey, "PUT /api/customers/" + id, dto, () -> {
+            CustomerResponseDTO customerResponseDTO = customerService.update(
+                    id, dto, CustomerETags.expectedVersion(id, ifMatch));
+            return ResponseEntity.ok(customerResponseDTO);
+        });
+    }
+
+    @Throttled(Throttled.WRITE)
+    @PutMapping("/by-email/{email}")
+    public ResponseEntity<CustomerResponseDTO> upsertCustomer(
+            @PathVariable @Email @Size(max = 100) String email,
+            @Valid @RequestBody CustomerUpsertRequestDTO dto) {
+        CustomerUpsertResultDTO result = customerService.upsert(CustomerCreateRequestDTO.builder()
+                .fullName(dto.getFullName())
+                .email(email)
+                .phone(dto.getPhone())
+                .build());
+        HttpStatus status = result.getStatus() == CustomerUpsertStatus.CREATED ? HttpStatus.CREATED : HttpStatus.OK;
+        return new ResponseEntity<>(result.getCustomer(), status);
     }
 
+    @Throttled(Throttled.BULK_WRITE)
+    @PutMapping("/by-email")
+    public ResponseEntity<List<CustomerUpsertResultDTO>> upsertCustomers(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid CustomerCreateRequestDTO> dtos) {
+        List<CustomerUpsertResultDTO> results = customerService.upsertAll(dtos);
+        return ResponseEntity.ok(results);
+    }
+
+    @Throttled(Throttled.WRITE)
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCustomer(@PathVariable Long id) {
         customerService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Throttled(Throttled.BULK_WRITE)
+    @DeleteMapping
+    public ResponseEntity<List<CustomerBulkItemResultDTO>> deleteCustomers(
+            @Valid @RequestBody CustomerBulkDeleteRequestDTO dto) {
+        List<CustomerBulkItemResultDTO> results = customerService.deleteAll(dto.getIds());
+        return ResponseEntity.ok(results);
+    }
+
+    @Throttled(Throttled.BULK_WRITE)
+    @PatchMapping
+    public ResponseEntity<List<CustomerBulkItemResultDTO>> patchCustomers(
+            @Valid @RequestBody CustomerBulkPatchRequestDTO dto) {
+        List<CustomerBulkItemResultDTO> results = customerService.patchAll(dto);
+        return ResponseEntity.ok(results);
+    }
+
+    private void writeElement(JsonGenerator generator, CustomerResponseDTO customer, int index) {
+        try {
+            generator.writeObject(customer);
+            if (index == 1 || index % STREAM_FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(JsonGenerator generator, CustomerResponseDTO customer) {
+        try {
+            generator.writeObject(customer);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package com.test.customercrud.controller;
+
+import com.test.customercrud.exception.PreconditionFailedException;
+
+final class CustomerETags {
+    private CustomerETags() {
+    }
+
+    static String format(Long id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Returns the {@code version} an If-Match header expects, or null when any
+     * current representation is acceptable.
+     */
+    static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        for (String eTag : ifMatch.split(",")) {
+            String tag = eTag.trim();
+            if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+                try {
+                    return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+                } catch (NumberFormatException ignored) {
+                    // not one of our tags, keep looking
+                }
+            }
+        }
+        throw new PreconditionFailedException("Customer %s does not match If-Match %s".formatted(id, ifMatch));
+    }
+}
@@ -0,0 +1,75 @@
+package com.test.customercrud.controller;
+
+import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import com.test.customercrud.service.ReactiveCustomerService;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class CustomerHandler {
+    private final ReactiveCustomerService customerService;
+
+    public Mono<ServerResponse> createCustomer(ServerRequest request) {
+        return body(request, CustomerCreateRequestDTO.class)
+                .flatMap(customerService::create)
+                .flatMap(customer -> ServerResponse.status(HttpStatus.CREATED).bodyValue(customer));
+    }
+
+    public Mono<ServerResponse> getAllCustomers(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(customerService.getAll(), CustomerResponseDTO.class);
+    }
+
+    public Mono<ServerResponse> getCustomerById(ServerRequest request) {
+        return id(request).flatMap(id -> customerService.get(id).flatMap(customer -> {
+            String eTag = CustomerETags.format(id, customer.getVersion());
+            Instant lastModified = Instant.ofEpochMilli(customer.getUpdated());
+            return request.checkNotModified(lastModified, eTag)
+                    .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                            .eTag(eTag)
+                            .lastModified(lastModified)
+                            .bodyValue(customer)));
+        }));
+    }
+
+    public Mono<ServerResponse> updateCustomer(ServerRequest request) {
+        return id(request).flatMap(id -> {
+            Long expectedVersion = CustomerETags.expectedVersion(
+                    id, request.headers().firstHeader(HttpHeaders.IF_MATCH));
+            return body(request, CustomerUpdateRequestDTO.class)
+                    .flatMap(dto -> customerService.update(id, dto, expectedVersion))
+                    .flatMap(customer -> ServerResponse.ok().bodyValue(customer));
+        });
+    }
+
+    public Mono<ServerResponse> deleteCustomer(ServerRequest request) {
+        return id(request)
+                .flatMap(customerService::delete)
+                .then(ServerResponse.noContent().build());
+    }
+
+    private Mono<Long> id(ServerRequest request) {
+        return Mono.fromCallable(() -> Long.valueOf(request.pathVariable("id")))
+                .onErrorMap(NumberFormatException.class,
+                        e -> new ServerWebInputException("Invalid customer id: " + request.pathVariable("id")));
+    }
+
+    private <T> Mono<T> body(ServerRequest request, Class<T> type) {
+        return request.bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is missing")));
+    }
+}
@@ -0,0 +1,28 @@
+package com.test.customercrud.controller;
+
+import com.test.customercrud.controller.handler.ReactiveExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+@Profile("reactive")
+public class CustomerRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> customerRoutes(CustomerHandler handler,
+                                                         ReactiveExceptionHandler exceptionHandler) {
+        return RouterFunctions.route()
+                .path("/api/customers", builder -> builder
+                        .POST("", handler::createCustomer)
+                        .GET("", handler::getAllCustomers)
+                        .GET("/{id}", handler::getCustomerById)
+                        .PUT("/{id}", handler::updateCustomer)
+                        .DELETE("/{id}", handler::deleteCustomer))
+                .onError(Throwable.class, exceptionHandler::handle)
+                .build();
+    }
+}
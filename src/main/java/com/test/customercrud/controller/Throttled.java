@@ -0,0 +1,28 @@
+package com.test.customercrud.controller;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts a handler method behind the bulkhead and rate limit configured under
+ * {@code customer.throttling.endpoints.<value>}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Throttled {
+    String SCAN = "scan";
+    String LOOKUP = "lookup";
+    /**
+     * Multi-get lookups, kept apart from single-id reads so large id lists cannot starve them.
+     */
+    String MULTI_GET = "multi-get";
+    String WRITE = "write";
+    /**
+     * Batch and bulk writes, which hold row locks for a whole chunk of up to 500 rows.
+     */
+    String BULK_WRITE = "bulk-write";
+
+    String value();
+}
@@ -0,0 +1,107 @@
+package com.test.customercrud.controller;
+
+import com.test.customercrud.config.ThrottlingProperties;
+import com.test.customercrud.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Rejects requests to {@link Throttled} handlers with a {@link TooManyRequestsException} instead of
+ * queueing them, once the endpoint's bulkhead is full or its token bucket is empty. The bulkhead
+ * permit is held until the request completes, including async (streaming) requests.
+ */
+public class ThrottlingInterceptor implements AsyncHandlerInterceptor {
+    static final String IN_FLIGHT_GAUGE = "customer.throttling.in.flight";
+    static final String REJECTED_COUNTER = "customer.throttling.rejected";
+    private static final String PERMIT_ATTRIBUTE = ThrottlingInterceptor.class.getName() + ".permit";
+
+    private final Map<String, Limiter> limiters;
+    private final MeterRegistry meterRegistry;
+
+    public ThrottlingInterceptor(ThrottlingProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.limiters = properties.getEndpoints().entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        entry -> new Limiter(entry.getKey(), entry.getValue())));
+        limiters.values().forEach(limiter -> Gauge.builder(IN_FLIGHT_GAUGE, limiter.inFlight, AtomicInteger::get)
+                .tag("endpoint", limiter.name)
+                .register(meterRegistry));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        Throttled throttled = handlerMethod.getMethodAnnotation(Throttled.class);
+        Limiter limiter = throttled == null ? null : limiters.get(throttled.value());
+        if (limiter != null) {
+            limiter.acquire();
+            request.setAttribute(PERMIT_ATTRIBUTE, limiter);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Limiter limiter) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            limiter.release();
+        }
+    }
+
+    private final class Limiter {
+        private final String name;
+        private final Semaphore bulkhead;
+        private final TokenBucket tokenBucket;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private Limiter(String name, ThrottlingProperties.Endpoint endpoint) {
+            this.name = name;
+            this.bulkhead = endpoint.getMaxConcurrent() > 0 ? new Semaphore(endpoint.getMaxConcurrent()) : null;
+            this.tokenBucket = endpoint.getPermitsPerSecond() > 0
+                    ? new TokenBucket(endpoint.getPermitsPerSecond(),
+                            endpoint.getBurst() > 0 ? endpoint.getBurst()
+                                    : (int) Math.ceil(endpoint.getPermitsPerSecond()),
+                            System::nanoTime)
+                    : null;
+        }
+
+        private void acquire() {
+            if (bulkhead != null && !bulkhead.tryAcquire()) {
+                throw reject("concurrency", 1);
+            }
+            long waitNanos = tokenBucket == null ? 0 : tokenBucket.tryAcquire();
+            if (waitNanos > 0) {
+                if (bulkhead != null) {
+                    bulkhead.release();
+                }
+                throw reject("rate", Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1))));
+            }
+            inFlight.incrementAndGet();
+        }
+
+        private void release() {
+            inFlight.decrementAndGet();
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+        }
+
+        private TooManyRequestsException reject(String reason, long retryAfterSeconds) {
+            meterRegistry.counter(REJECTED_COUNTER, "endpoint", name, "reason", reason).increment();
+            return new TooManyRequestsException(
+                    "Too many %s requests, retry after %d s".formatted(name, retryAfterSeconds), retryAfterSeconds);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.test.customercrud.controller;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is the theoretical arrival time of
+ * the next request, so acquiring is a single CAS and never blocks a (virtual) thread.
+ */
+final class TokenBucket {
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstToleranceNanos = (Math.max(burst, 1) - 1) * intervalNanos;
+        this.nanoClock = nanoClock;
+        this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Takes a token and returns 0, or returns how many nanoseconds to wait for the next one.
+     */
+    long tryAcquire() {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long arrival = theoreticalArrival.get();
+            long wait = arrival - burstToleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, Math.max(arrival, now) + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -2,23 +2,127 @@ package com.test.customercrud.controller.handler;
 
 import com.test.customercrud.dto.ErrorDto;
 import com.test.customercrud.exception.CustomerNotFoundException;
+import com.test.customercrud.exception.DuplicateEmailException;
+import com.test.customercrud.exception.IdempotencyKeyInProgressException;
+import com.test.customercrud.exception.IdempotencyKeyReusedException;
+import com.test.customercrud.exception.InvalidBulkRequestException;
+import com.test.customercrud.exception.InvalidCursorException;
+import com.test.customercrud.exception.InvalidIdempotencyKeyException;
+import com.test.customercrud.exception.InvalidSearchRequestException;
+import com.test.customercrud.exception.PreconditionFailedException;
+import com.test.customercrud.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @Slf4j
 @ControllerAdvice("com.test.customercrud")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    static final String ERRORS_COUNTER = "customer.errors";
+
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(CustomerNotFoundException.class)
     public ResponseEntity<ErrorDto> handleCustomerNotFoundException(CustomerNotFoundException e) {
         String errorId = buildErrorId();
         log.error("Customer not found, id: {}, message: {}", errorId, e.getMessage(), e);
-        return buildErrorResponse(HttpStatus.NOT_FOUND, e.getMessage(), errorId);
+        return buildErrorResponse(HttpStatus.NOT_FOUND, e, e.getMessage(), errorId);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorDto> handleInvalidCursorException(InvalidCursorException e) {
+        String errorId = buildErrorId();
+        log.error("Invalid cursor, id: {}, message: {}", errorId, e.getMessage(), e);
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, e, e.getMessage(), errorId);
+    }
+
+    @ExceptionHandler(InvalidSearchRequestException.class)
+    public ResponseEntity<ErrorDto> handleInvalidSearchRequestException(InvalidSearchRequestException e) {
+        String errorId = buildErrorId();
+        log.error("Invalid search request, id: {}, message: {}", errorId, e.getMessage(), e);
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, e, e.getMessage(), errorId);
+    }
+
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public ResponseEntity<ErrorDto> handleInvalidBulkRequestException(InvalidBulkRequestException e) {
+        String errorId = buildErrorId();
+        log.error("Invalid bulk request, id: {}, message: {}", errorId, e.getMessage(), e);
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, e, e.getMessage(), errorId);
+    }
+
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<ErrorDto> handleInvalidIdempotencyKeyException(InvalidIdempotencyKeyException e) {
+        String errorId = buildErrorId();
+        log.error("Invalid idempotency key, id: {}, message: {}", errorId, e.getMessage(), e);
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, e, e.getMessage(), errorId);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorDto> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException e) {
+        String errorId = buildErrorId();
+        log.error("Idempotency key reused, id: {}, message: {}", errorId, e.getMessage(), e);
+        return buildErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY, e, e.getMessage(), errorId);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ErrorDto> handleIdempotencyKeyInProgressException(IdempotencyKeyInProgressException e) {
+        String errorId = buildErrorId();
+        log.error("Idempotent request in progress, id: {}, message: {}", errorId, e.getMessage(), e);
+        return buildErrorResponse(HttpStatus.CONFLICT, e, e.getMessage(), errorId);
+    }
+
+    @ExceptionHandler(DuplicateEmailException.class)
+    public ResponseEntity<ErrorDto> handleDuplicateEmailException(DuplicateEmailException e) {
+        String errorId = buildErrorId();
+        log.error("Duplicate email, id: {}, message: {}", errorId, e.getMessage(), e);
+        return buildErrorResponse(HttpStatus.CONFLICT, e, e.getMessage(), errorId);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorDto> handlePreconditionFailedException(PreconditionFailedException e) {
+        String errorId = buildErrorId();
+        log.error("Precondition failed, id: {}, message: {}", errorId, e.getMessage(), e);
+        return buildErrorResponse(HttpStatus.PRECONDITION_FAILED, e, e.getMessage(), errorId);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorDto> handleTooManyRequestsException(TooManyRequestsException e) {
+        String errorId = buildErrorId();
+        log.warn("Request throttled, id: {}, message: {}", errorId, e.getMessage());
+        ResponseEntity<ErrorDto> response =
+                buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, e, e.getMessage(), errorId);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorDto> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        String errorId = buildErrorId();
+        log.error("Concurrent modification, id: {}, message: {}", errorId, e.getMessage(), e);
+        return buildErrorResponse(HttpStatus.CONFLICT, e, "Customer was modified concurrently", errorId);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorDto> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        String errorId = buildErrorId();
+        log.error("Data integrity violation, id: {}, message: {}", errorId, e.getMessage(), e);
+        return buildErrorResponse(HttpStatus.CONFLICT, e, "Customer conflicts with an existing customer", errorId);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -29,17 +133,44 @@ public class GlobalExceptionHandler {
                 .collect(Collectors.joining(", "));
 
         log.error("Validation error, id: {}, message: {}", errorId, errorMessage, e);
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, errorMessage, errorId);
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, e, errorMessage, errorId);
+    }
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorDto> handleMethodValidationException(HandlerMethodValidationException e) {
+        String errorId = buildErrorId();
+        String errorMessage = e.getAllValidationResults().stream()
+                .flatMap(result -> result.getResolvableErrors().stream()
+                        .map(error -> result.getMethodParameter().getParameterName()
+                                + ": " + error.getDefaultMessage()))
+                .collect(Collectors.joining(", "));
+
+        log.error("Validation error, id: {}, message: {}", errorId, errorMessage, e);
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, e, errorMessage, errorId);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorDto> handleTypeMismatchException(MethodArgumentTypeMismatchException e) {
+        String errorId = buildErrorId();
+        String errorMessage = "%s: invalid value '%s'".formatted(e.getName(), e.getValue());
+        log.error("Validation error, id: {}, message: {}", errorId, errorMessage, e);
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, e, errorMessage, errorId);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorDto> handleGenericException(Exception e) {
         String errorId = buildErrorId();
         log.error("Internal server error, id: {}, message: {}", errorId, e.getMessage(), e);
-        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error", errorId);
+        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, e, "Internal server error", errorId);
     }
 
-    private ResponseEntity<ErrorDto> buildErrorResponse(HttpStatus status, String message, String errorId) {
+    private ResponseEntity<ErrorDto> buildErrorResponse(HttpStatus status, Exception e,
+                                                        String message, String errorId) {
+        meterRegistry.counter(ERRORS_COUNTER,
+                        "type", e.getClass().getSimpleName(),
+                        "status", String.valueOf(status.value()))
+                .increment();
+
         ErrorDto errorDto = new ErrorDto();
         errorDto.setId(errorId);
         errorDto.setMessage(message);
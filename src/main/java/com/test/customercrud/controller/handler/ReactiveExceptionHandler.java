@@ -0,0 +1,76 @@
+package com.test.customercrud.controller.handler;
+
+import com.test.customercrud.dto.ErrorDto;
+import com.test.customercrud.exception.CustomerNotFoundException;
+import com.test.customercrud.exception.DuplicateEmailException;
+import com.test.customercrud.exception.PreconditionFailedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolationException;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveExceptionHandler {
+    private final MeterRegistry meterRegistry;
+
+    public Mono<ServerResponse> handle(Throwable e, ServerRequest request) {
+        String errorId = UUID.randomUUID().toString();
+        if (e instanceof CustomerNotFoundException) {
+            log.error("Customer not found, id: {}, message: {}", errorId, e.getMessage(), e);
+            return buildErrorResponse(HttpStatus.NOT_FOUND, e, e.getMessage(), errorId);
+        }
+        if (e instanceof ConstraintViolationException) {
+            log.error("Validation error, id: {}, message: {}", errorId, e.getMessage(), e);
+            return buildErrorResponse(HttpStatus.BAD_REQUEST, e, e.getMessage(), errorId);
+        }
+        if (e instanceof ServerWebInputException inputException) {
+            log.error("Invalid request, id: {}, message: {}", errorId, e.getMessage(), e);
+            return buildErrorResponse(HttpStatus.BAD_REQUEST, e, inputException.getReason(), errorId);
+        }
+        if (e instanceof PreconditionFailedException) {
+            log.error("Precondition failed, id: {}, message: {}", errorId, e.getMessage(), e);
+            return buildErrorResponse(HttpStatus.PRECONDITION_FAILED, e, e.getMessage(), errorId);
+        }
+        if (e instanceof DuplicateEmailException) {
+            log.error("Duplicate email, id: {}, message: {}", errorId, e.getMessage(), e);
+            return buildErrorResponse(HttpStatus.CONFLICT, e, e.getMessage(), errorId);
+        }
+        if (e instanceof DataIntegrityViolationException) {
+            log.error("Data integrity violation, id: {}, message: {}", errorId, e.getMessage(), e);
+            return buildErrorResponse(HttpStatus.CONFLICT, e, "Customer conflicts with an existing customer", errorId);
+        }
+        if (e instanceof OptimisticLockingFailureException) {
+            log.error("Concurrent modification, id: {}, message: {}", errorId, e.getMessage(), e);
+            return buildErrorResponse(HttpStatus.CONFLICT, e, "Customer was modified concurrently", errorId);
+        }
+        log.error("Internal server error, id: {}, message: {}", errorId, e.getMessage(), e);
+        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, e, "Internal server error", errorId);
+    }
+
+    private Mono<ServerResponse> buildErrorResponse(HttpStatus status, Throwable e,
+                                                    String message, String errorId) {
+        meterRegistry.counter(GlobalExceptionHandler.ERRORS_COUNTER,
+                        "type", e.getClass().getSimpleName(),
+                        "status", String.valueOf(status.value()))
+                .increment();
+
+        ErrorDto errorDto = new ErrorDto();
+        errorDto.setId(errorId);
+        errorDto.setMessage(message);
+
+        return ServerResponse.status(status).bodyValue(errorDto);
+    }
+}
@@ -0,0 +1,13 @@
+package com.test.customercrud.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class CustomerBatchItemResultDTO {
+    private int index;
+    private CustomerBatchItemStatus status;
+    private CustomerResponseDTO customer;
+    private String error;
+}
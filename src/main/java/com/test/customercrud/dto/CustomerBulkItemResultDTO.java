@@ -0,0 +1,11 @@
+package com.test.customercrud.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class CustomerBulkItemResultDTO {
+    private Long id;
+    private CustomerBulkItemStatus status;
+}
@@ -0,0 +1,7 @@
+package com.test.customercrud.dto;
+
+public enum CustomerBulkItemStatus {
+    UPDATED,
+    DELETED,
+    NOT_FOUND
+}
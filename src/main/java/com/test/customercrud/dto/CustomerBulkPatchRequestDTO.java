@@ -0,0 +1,23 @@
+package com.test.customercrud.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class CustomerBulkPatchRequestDTO {
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull Long> ids;
+    @Size(min = 2, max = 50)
+    @Pattern(regexp = ".*\\S.*", message = "Full name must not be blank")
+    private String fullName;
+    @Pattern(regexp = "^\\+\\d{6,14}$",
+            message = "Phone number must start with '+'")
+    private String phone;
+}
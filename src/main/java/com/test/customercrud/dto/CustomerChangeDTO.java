@@ -0,0 +1,16 @@
+package com.test.customercrud.dto;
+
+import com.test.customercrud.model.CustomerEventType;
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class CustomerChangeDTO {
+    private Long id;
+    private Long sequence;
+    private Long customerId;
+    private CustomerEventType type;
+    private Long created;
+    private CustomerResponseDTO customer;
+}
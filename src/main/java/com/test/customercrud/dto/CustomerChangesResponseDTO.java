@@ -0,0 +1,13 @@
+package com.test.customercrud.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class CustomerChangesResponseDTO {
+    private List<CustomerChangeDTO> items;
+    private long nextSince;
+    private boolean hasMore;
+}
@@ -0,0 +1,18 @@
+package com.test.customercrud.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+@Builder
+@Jacksonized
+@Data
+public class CustomerLookupRequestDTO {
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull Long> ids;
+}
@@ -0,0 +1,12 @@
+package com.test.customercrud.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class CustomerLookupResponseDTO {
+    private List<CustomerResponseDTO> customers;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,13 @@
+package com.test.customercrud.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class CustomerPageResponseDTO {
+    private List<CustomerResponseDTO> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
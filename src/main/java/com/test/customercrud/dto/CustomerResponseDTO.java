@@ -1,13 +1,26 @@
 package com.test.customercrud.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Builder
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class CustomerResponseDTO {
     private Long id;
     private String fullName;
     private String email;
     private String phone;
+    /**
+     * Validators for conditional requests. Kept next to the body so a cached entry always yields an
+     * ETag that matches what it serves.
+     */
+    @JsonIgnore
+    private Long version;
+    @JsonIgnore
+    private Long updated;
 }
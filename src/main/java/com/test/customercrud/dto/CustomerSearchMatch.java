@@ -0,0 +1,6 @@
+package com.test.customercrud.dto;
+
+public enum CustomerSearchMatch {
+    PREFIX,
+    EXACT
+}
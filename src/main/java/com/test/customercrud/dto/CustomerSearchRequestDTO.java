@@ -0,0 +1,15 @@
+package com.test.customercrud.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class CustomerSearchRequestDTO {
+    private String fullName;
+    private String email;
+    private String phone;
+    private CustomerSearchMatch match;
+    private int page;
+    private int size;
+}
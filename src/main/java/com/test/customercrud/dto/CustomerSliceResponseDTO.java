@@ -0,0 +1,14 @@
+package com.test.customercrud.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class CustomerSliceResponseDTO {
+    private List<CustomerResponseDTO> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
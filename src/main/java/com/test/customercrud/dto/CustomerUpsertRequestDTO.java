@@ -0,0 +1,18 @@
+package com.test.customercrud.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class CustomerUpsertRequestDTO {
+    @NotBlank
+    @Size(min = 2, max = 50, message = "Full name must be between 2 and 50 characters")
+    private String fullName;
+
+    @Pattern(regexp = "\\+\\d{6,14}", message = "Phone number must start with '+' and contain 6 to 14 digits")
+    private String phone;
+}
@@ -0,0 +1,12 @@
+package com.test.customercrud.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class CustomerUpsertResultDTO {
+    private int index;
+    private CustomerUpsertStatus status;
+    private CustomerResponseDTO customer;
+}
@@ -0,0 +1,12 @@
+package com.test.customercrud.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Builder
+@Data
+public class IdempotentResponseDTO {
+    private String fingerprint;
+    private int status;
+    private CustomerResponseDTO body;
+}
@@ -0,0 +1,7 @@
+package com.test.customercrud.exception;
+
+public class InvalidBulkRequestException extends RuntimeException {
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+}
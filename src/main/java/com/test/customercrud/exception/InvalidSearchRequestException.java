@@ -0,0 +1,7 @@
+package com.test.customercrud.exception;
+
+public class InvalidSearchRequestException extends RuntimeException {
+    public InvalidSearchRequestException(String message) {
+        super(message);
+    }
+}
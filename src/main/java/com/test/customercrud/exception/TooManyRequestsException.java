@@ -0,0 +1,14 @@
+package com.test.customercrud.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        // Rejections are part of normal overload handling, so skip the stack trace.
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -17,6 +17,7 @@ public interface CustomerMapper {
     @Mapping(target = "created", ignore = true)
     @Mapping(target = "updated", ignore = true)
     @Mapping(target = "isActive", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Customer toCustomer(CustomerCreateRequestDTO dto);
 
     CustomerResponseDTO toCustomerResponseDTO(Customer customer);
@@ -25,6 +26,7 @@ public interface CustomerMapper {
     @Mapping(target = "created", ignore = true)
     @Mapping(target = "updated", ignore = true)
     @Mapping(target = "isActive", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateCustomerFromDTO(CustomerUpdateRequestDTO dto, @MappingTarget Customer customer);
 }
@@ -8,6 +8,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -23,7 +24,7 @@ import org.hibernate.annotations.SQLRestriction;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@SQLDelete(sql = "UPDATE customers SET is_active = false WHERE id=?")
+@SQLDelete(sql = "UPDATE customers SET is_active = false, version = version + 1 WHERE id=? AND version=?")
 @SQLRestriction("is_active=true")
 @Table(name = "customers")
 public class Customer {
@@ -42,6 +43,9 @@ public class Customer {
     private String phone;
     @Column(name = "is_active", nullable = false)
     private Boolean isActive;
+    @Version
+    @Column(nullable = false)
+    private Long version;
 
     @PrePersist
     protected void onCreate() {
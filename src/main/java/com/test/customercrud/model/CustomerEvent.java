@@ -0,0 +1,38 @@
+package com.test.customercrud.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "customer_events")
+public class CustomerEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "customer_id", nullable = false, updatable = false)
+    private Long customerId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 16)
+    private CustomerEventType type;
+    @Column(updatable = false, length = 1024)
+    private String payload;
+    @Column(nullable = false, updatable = false)
+    private Long created;
+    private Long published;
+    @Column(name = "sequence_number")
+    private Long sequence;
+}
@@ -0,0 +1,7 @@
+package com.test.customercrud.model;
+
+public enum CustomerEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
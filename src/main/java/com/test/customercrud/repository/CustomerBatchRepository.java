@@ -0,0 +1,23 @@
+package com.test.customercrud.repository;
+
+import com.test.customercrud.model.Customer;
+import java.util.List;
+import java.util.Set;
+
+public interface CustomerBatchRepository {
+    /**
+     * Inserts the customers using JDBC batches and assigns the generated ids.
+     * Customers rejected by a constraint (e.g. a duplicate email) are left with a null id.
+     */
+    void insertAll(List<Customer> customers);
+
+    /**
+     * Inserts each customer or, when its email exists (including a deactivated row), overwrites the
+     * name and phone and reactivates it, with one {@code INSERT ... ON DUPLICATE KEY UPDATE} per
+     * customer sent in JDBC batches. Assigns the stored id, email, created and version; a version
+     * of 0 means the row was inserted. Emails must be distinct.
+     *
+     * @return the ids of the rows that were deactivated before the upsert
+     */
+    Set<Long> upsertAll(List<Customer> customers);
+}
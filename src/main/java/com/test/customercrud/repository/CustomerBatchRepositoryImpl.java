@@ -0,0 +1,155 @@
+package com.test.customercrud.repository;
+
+import com.test.customercrud.model.Customer;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@RequiredArgsConstructor
+public class CustomerBatchRepositoryImpl implements CustomerBatchRepository {
+    static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL = """
+            INSERT INTO customers (created, updated, full_name, email, phone, is_active)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+    // No placeholders after ON DUPLICATE KEY UPDATE, so Connector/J's rewriteBatchedStatements can still
+    // send each chunk as one multi-row INSERT.
+    static final String UPSERT_SQL = """
+            INSERT INTO customers (created, updated, full_name, email, phone, is_active)
+            VALUES (?, ?, ?, ?, ?, true)
+            ON DUPLICATE KEY UPDATE full_name = VALUES(full_name), phone = VALUES(phone),
+                updated = VALUES(updated), is_active = true, version = version + 1""";
+    private static final String SELECT_DEACTIVATED_SQL =
+            "SELECT id FROM customers WHERE email IN (:emails) AND is_active = false";
+    private static final String SELECT_UPSERTED_SQL =
+            "SELECT id, email, created, version FROM customers WHERE email IN (:emails)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        customers.forEach(customer -> {
+            customer.setIsActive(true);
+            customer.setCreated(now);
+            customer.setUpdated(now);
+            customer.setVersion(0L);
+        });
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < customers.size(); from += BATCH_SIZE) {
+                    int to = Math.min(from + BATCH_SIZE, customers.size());
+                    insertChunk(connection, statement, customers.subList(from, to));
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public Set<Long> upsertAll(List<Customer> customers) {
+        long now = System.currentTimeMillis();
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        Set<Long> reactivatedIds = new HashSet<>();
+        for (int from = 0; from < customers.size(); from += BATCH_SIZE) {
+            List<Customer> chunk = customers.subList(from, Math.min(from + BATCH_SIZE, customers.size()));
+            Map<String, List<String>> emails = Map.of("emails", chunk.stream().map(Customer::getEmail).toList());
+            reactivatedIds.addAll(namedJdbcTemplate.queryForList(SELECT_DEACTIVATED_SQL, emails, Long.class));
+            jdbcTemplate.batchUpdate(UPSERT_SQL, chunk, chunk.size(), (statement, customer) -> {
+                statement.setLong(1, now);
+                statement.setLong(2, now);
+                statement.setString(3, customer.getFullName());
+                statement.setString(4, customer.getEmail());
+                statement.setString(5, customer.getPhone());
+            });
+
+            Map<String, Customer> byEmail = chunk.stream()
+                    .collect(Collectors.toMap(customer -> normalizeEmail(customer.getEmail()), Function.identity()));
+            namedJdbcTemplate.query(SELECT_UPSERTED_SQL, emails, (RowCallbackHandler) row -> {
+                        Customer customer = byEmail.get(normalizeEmail(row.getString("email")));
+                        customer.setId(row.getLong("id"));
+                        customer.setEmail(row.getString("email"));
+                        customer.setCreated(row.getLong("created"));
+                        customer.setUpdated(now);
+                        customer.setIsActive(true);
+                        customer.setVersion(row.getLong("version"));
+                    });
+        }
+        return reactivatedIds;
+    }
+
+    private String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private void insertChunk(Connection connection, PreparedStatement statement,
+                             List<Customer> chunk) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            for (Customer customer : chunk) {
+                bind(statement, customer);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            assignIds(statement, chunk);
+        } catch (BatchUpdateException e) {
+            connection.rollback(savepoint);
+            statement.clearBatch();
+            for (Customer customer : chunk) {
+                insertOne(statement, customer);
+            }
+        } finally {
+            connection.releaseSavepoint(savepoint);
+        }
+    }
+
+    private void insertOne(PreparedStatement statement, Customer customer) throws SQLException {
+        bind(statement, customer);
+        try {
+            statement.executeUpdate();
+            assignIds(statement, List.of(customer));
+        } catch (SQLIntegrityConstraintViolationException e) {
+            customer.setId(null);
+        }
+    }
+
+    private void bind(PreparedStatement statement, Customer customer) throws SQLException {
+        statement.setLong(1, customer.getCreated());
+        statement.setLong(2, customer.getUpdated());
+        statement.setString(3, customer.getFullName());
+        statement.setString(4, customer.getEmail());
+        statement.setString(5, customer.getPhone());
+        statement.setBoolean(6, customer.getIsActive());
+    }
+
+    private void assignIds(PreparedStatement statement, List<Customer> customers) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            for (Customer customer : customers) {
+                if (!keys.next()) {
+                    throw new SQLException("Missing generated key for customer " + customer.getEmail());
+                }
+                customer.setId(keys.getLong(1));
+            }
+        }
+    }
+}
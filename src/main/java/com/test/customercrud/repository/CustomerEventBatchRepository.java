@@ -0,0 +1,16 @@
+package com.test.customercrud.repository;
+
+import com.test.customercrud.model.CustomerEvent;
+import java.util.List;
+
+public interface CustomerEventBatchRepository {
+    /**
+     * Inserts the events using JDBC batches. Generated ids are not assigned back.
+     */
+    void insertAll(List<CustomerEvent> events);
+
+    /**
+     * Numbers the events {@code first, first + 1, ...} in the order of {@code ids}, using JDBC batches.
+     */
+    void assignSequences(List<Long> ids, long first);
+}
@@ -0,0 +1,43 @@
+package com.test.customercrud.repository;
+
+import com.test.customercrud.model.CustomerEvent;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class CustomerEventBatchRepositoryImpl implements CustomerEventBatchRepository {
+    static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL = """
+            INSERT INTO customer_events (customer_id, type, payload, created)
+            VALUES (?, ?, ?, ?)""";
+    private static final String UPDATE_SEQUENCE_SQL = "UPDATE customer_events SET sequence_number = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<CustomerEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, BATCH_SIZE, (statement, event) -> {
+            statement.setLong(1, event.getCustomerId());
+            statement.setString(2, event.getType().name());
+            statement.setString(3, event.getPayload());
+            statement.setLong(4, event.getCreated());
+        });
+    }
+
+    @Override
+    public void assignSequences(List<Long> ids, long first) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SEQUENCE_SQL, IntStream.range(0, ids.size()).boxed().toList(), BATCH_SIZE,
+                (statement, i) -> {
+                    statement.setLong(1, first + i);
+                    statement.setLong(2, ids.get(i));
+                });
+    }
+}
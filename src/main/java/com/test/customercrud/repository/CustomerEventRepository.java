@@ -0,0 +1,43 @@
+package com.test.customercrud.repository;
+
+import com.test.customercrud.model.CustomerEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CustomerEventRepository extends JpaRepository<CustomerEvent, Long>, CustomerEventBatchRepository {
+    // LockOptions.SKIP_LOCKED: a second publisher instance skips the rows another one is draining.
+    String SKIP_LOCKED = "-2";
+
+    List<CustomerEvent> findBySequenceGreaterThanOrderBySequenceAsc(Long sequence, Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    List<CustomerEvent> findByPublishedIsNullOrderByIdAsc(Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    List<CustomerEvent> findBySequenceIsNullOrderByIdAsc(Limit limit);
+
+    @Query("SELECT COALESCE(MAX(e.sequence), 0) FROM CustomerEvent e")
+    long findMaxSequence();
+
+    @Modifying
+    @Query("UPDATE CustomerEvent e SET e.published = :published WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("published") long published);
+
+    @Modifying
+    @Query("DELETE FROM CustomerEvent e WHERE e.published < :before AND e.sequence IS NOT NULL")
+    int deletePublishedBefore(@Param("before") long before);
+}
@@ -1,9 +1,100 @@
 package com.test.customercrud.repository;
 
+import com.test.customercrud.dto.CustomerResponseDTO;
 import com.test.customercrud.model.Customer;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, CustomerBatchRepository {
+    String STREAM_FETCH_SIZE = "1000";
+
+    @Query("SELECT new com.test.customercrud.dto.CustomerResponseDTO(c.id, c.fullName, c.email, c.phone, "
+            + "c.version, c.updated) "
+            + "FROM Customer c WHERE c.id = :id")
+    Optional<CustomerResponseDTO> findResponseById(@Param("id") Long id);
+
+    @Query("SELECT new com.test.customercrud.dto.CustomerResponseDTO(c.id, c.fullName, c.email, c.phone, "
+            + "c.version, c.updated) "
+            + "FROM Customer c WHERE c.id IN :ids ORDER BY c.id")
+    List<CustomerResponseDTO> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.test.customercrud.dto.CustomerResponseDTO(c.id, c.fullName, c.email, c.phone, "
+            + "c.version, c.updated) "
+            + "FROM Customer c WHERE c.id > :id ORDER BY c.id")
+    List<CustomerResponseDTO> findResponsesByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    Slice<Customer> findByFullNameStartingWith(String fullName, Pageable pageable);
+
+    Slice<Customer> findByFullName(String fullName, Pageable pageable);
+
+    Slice<Customer> findByEmailStartingWith(String email, Pageable pageable);
+
+    Slice<Customer> findByEmail(String email, Pageable pageable);
+
+    Slice<Customer> findByPhoneStartingWith(String phone, Pageable pageable);
+
+    Slice<Customer> findByPhone(String phone, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT c FROM Customer c ORDER BY c.id")
+    Stream<Customer> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(value = "SELECT email FROM customers", nativeQuery = true)
+    Stream<String> streamAllEmails();
+
+    // Native so that @SQLRestriction does not hide deleted rows; COUNT(*) maps to a number on every driver,
+    // whereas MySQL returns EXISTS as a BIGINT that cannot be converted to boolean.
+    @Query(value = "SELECT COUNT(*) FROM customers WHERE email = :email", nativeQuery = true)
+    long countByEmailIncludingDeleted(@Param("email") String email);
+
+    @Query(value = "SELECT email FROM customers WHERE email IN (:emails)", nativeQuery = true)
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Modifying
+    @Query(value = """
+            UPDATE customers SET is_active = false, updated = :updated, version = version + 1
+            WHERE id = :id AND is_active = true""", nativeQuery = true)
+    int deactivateById(@Param("id") Long id, @Param("updated") long updated);
+
+    @Query(value = "SELECT id FROM customers WHERE id IN (:ids) AND is_active = true FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockActiveIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = """
+            UPDATE customers SET is_active = false, updated = :updated, version = version + 1
+            WHERE id IN (:ids) AND is_active = true""", nativeQuery = true)
+    int deactivateAllById(@Param("ids") Collection<Long> ids, @Param("updated") long updated);
+
+    @Modifying
+    @Query(value = """
+            UPDATE customers
+            SET full_name = COALESCE(:fullName, full_name), phone = COALESCE(:phone, phone),
+                updated = :updated, version = version + 1
+            WHERE id IN (:ids) AND is_active = true""", nativeQuery = true)
+    int patchAllById(@Param("ids") Collection<Long> ids, @Param("fullName") String fullName,
+                     @Param("phone") String phone, @Param("updated") long updated);
 }
@@ -0,0 +1,120 @@
+package com.test.customercrud.repository;
+
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.model.Customer;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveCustomerRepository {
+    private static final String SELECT_RESPONSE = """
+            SELECT id, full_name, email, phone, version, updated FROM customers WHERE is_active = true""";
+    private static final String SELECT_CUSTOMER = """
+            SELECT id, created, updated, full_name, email, phone, is_active, version
+            FROM customers WHERE id = :id AND is_active = true""";
+    private static final String INSERT = """
+            INSERT INTO customers (created, updated, full_name, email, phone, is_active, version)
+            VALUES (:created, :updated, :fullName, :email, :phone, true, 0)""";
+    private static final String UPDATE = """
+            UPDATE customers SET full_name = :fullName, phone = :phone, updated = :updated,
+                version = version + 1
+            WHERE id = :id AND version = :version AND is_active = true""";
+    private static final String DEACTIVATE = """
+            UPDATE customers SET is_active = false, updated = :updated, version = version + 1
+            WHERE id = :id AND is_active = true""";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Customer> findById(Long id) {
+        return databaseClient.sql(SELECT_CUSTOMER)
+                .bind("id", id)
+                .map(ReactiveCustomerRepository::toCustomer)
+                .one();
+    }
+
+    public Mono<CustomerResponseDTO> findResponseById(Long id) {
+        return databaseClient.sql(SELECT_RESPONSE + " AND id = :id")
+                .bind("id", id)
+                .map(ReactiveCustomerRepository::toResponse)
+                .one();
+    }
+
+    public Flux<CustomerResponseDTO> findAllResponses() {
+        return databaseClient.sql(SELECT_RESPONSE + " ORDER BY id")
+                .map(ReactiveCustomerRepository::toResponse)
+                .all();
+    }
+
+    public Mono<Customer> insert(Customer customer) {
+        long now = System.currentTimeMillis();
+        customer.setCreated(now);
+        customer.setUpdated(now);
+        customer.setIsActive(true);
+        customer.setVersion(0L);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .bind("created", now)
+                .bind("updated", now)
+                .bind("fullName", customer.getFullName())
+                .bind("email", customer.getEmail());
+        return bindPhone(spec, customer.getPhone())
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    customer.setId(id);
+                    return customer;
+                });
+    }
+
+    public Mono<Long> update(Long id, Customer customer, long version) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(UPDATE)
+                .bind("id", id)
+                .bind("version", version)
+                .bind("fullName", customer.getFullName())
+                .bind("updated", customer.getUpdated());
+        return bindPhone(spec, customer.getPhone()).fetch().rowsUpdated();
+    }
+
+    public Mono<Long> deactivateById(Long id, long updated) {
+        return databaseClient.sql(DEACTIVATE)
+                .bind("id", id)
+                .bind("updated", updated)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindPhone(DatabaseClient.GenericExecuteSpec spec,
+                                                               String phone) {
+        return phone == null ? spec.bindNull("phone", String.class) : spec.bind("phone", phone);
+    }
+
+    private static Customer toCustomer(Readable row) {
+        return Customer.builder()
+                .id(row.get("id", Long.class))
+                .created(row.get("created", Long.class))
+                .updated(row.get("updated", Long.class))
+                .fullName(row.get("full_name", String.class))
+                .email(row.get("email", String.class))
+                .phone(row.get("phone", String.class))
+                .isActive(row.get("is_active", Boolean.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    private static CustomerResponseDTO toResponse(Readable row) {
+        return new CustomerResponseDTO(
+                row.get("id", Long.class),
+                row.get("full_name", String.class),
+                row.get("email", String.class),
+                row.get("phone", String.class),
+                row.get("version", Long.class),
+                row.get("updated", Long.class));
+    }
+}
@@ -0,0 +1,36 @@
+package com.test.customercrud.service;
+
+import com.test.customercrud.dto.CustomerChangesResponseDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.model.CustomerEventType;
+import java.util.List;
+
+public interface CustomerEventService {
+    /**
+     * Writes a change event in the caller's transaction. {@code customer} is null for deletions.
+     */
+    void record(CustomerEventType type, Long customerId, CustomerResponseDTO customer);
+
+    void recordAll(CustomerEventType type, List<CustomerResponseDTO> customers);
+
+    void recordDeleted(List<Long> customerIds);
+
+    /**
+     * Returns sequenced events with a sequence greater than {@code since}. Events become visible here once
+     * {@link #sequencePending()} has numbered them.
+     */
+    CustomerChangesResponseDTO getChanges(long since, int limit);
+
+    /**
+     * Numbers the oldest batch of committed, unsequenced events and returns how many were numbered. Sequences are
+     * assigned in commit order, so a reader paging on them never skips an event that commits late.
+     */
+    int sequencePending();
+
+    /**
+     * Hands the oldest batch of unpublished events to the sink and returns how many were published.
+     */
+    int publishPending();
+
+    int purgePublished();
+}
@@ -1,18 +1,59 @@
 package com.test.customercrud.service;
 
+import com.test.customercrud.dto.CustomerBatchItemResultDTO;
+import com.test.customercrud.dto.CustomerBulkItemResultDTO;
+import com.test.customercrud.dto.CustomerBulkPatchRequestDTO;
 import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerLookupResponseDTO;
+import com.test.customercrud.dto.CustomerPageResponseDTO;
 import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerSearchRequestDTO;
+import com.test.customercrud.dto.CustomerSliceResponseDTO;
 import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import com.test.customercrud.dto.CustomerUpsertResultDTO;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface CustomerService {
     CustomerResponseDTO create(CustomerCreateRequestDTO request);
 
+    List<CustomerBatchItemResultDTO> createAll(List<CustomerCreateRequestDTO> requests);
+
+    /**
+     * Creates the customer or, when the email is taken, replaces its name and phone and reactivates it
+     * if it was deleted, in one statement. Reactivated customers are reported as created.
+     */
+    CustomerUpsertResultDTO upsert(CustomerCreateRequestDTO request);
+
+    /**
+     * Batched {@link #upsert}. Repeated emails are collapsed, the last occurrence wins. Returns one result
+     * per request, in request order, each carrying the request index.
+     */
+    List<CustomerUpsertResultDTO> upsertAll(List<CustomerCreateRequestDTO> requests);
+
     CustomerResponseDTO get(Long id);
 
-    List<CustomerResponseDTO> getAll();
+    /**
+     * Fetches the distinct ids with chunked {@code IN} queries, keeping the request order. Unknown and
+     * deleted ids are reported in {@code missingIds}.
+     */
+    CustomerLookupResponseDTO lookup(List<Long> ids);
+
+    CustomerPageResponseDTO getAll(String cursor, int limit);
 
-    CustomerResponseDTO update(Long id, CustomerUpdateRequestDTO request);
+    CustomerSliceResponseDTO search(CustomerSearchRequestDTO request);
+
+    void exportAll(Consumer<CustomerResponseDTO> consumer);
+
+    CustomerResponseDTO update(Long id, CustomerUpdateRequestDTO request, Long expectedVersion);
 
     void delete(Long id);
+
+    /**
+     * Soft-deletes the customers with set-based updates. Unknown and already deleted ids are
+     * reported as {@code NOT_FOUND}.
+     */
+    List<CustomerBulkItemResultDTO> deleteAll(List<Long> ids);
+
+    List<CustomerBulkItemResultDTO> patchAll(CustomerBulkPatchRequestDTO request);
 }
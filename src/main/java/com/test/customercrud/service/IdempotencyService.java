@@ -0,0 +1,17 @@
+package com.test.customercrud.service;
+
+import com.test.customercrud.dto.CustomerResponseDTO;
+import java.util.function.Supplier;
+import org.springframework.http.ResponseEntity;
+
+public interface IdempotencyService {
+    /**
+     * Runs the action once per idempotency key. A retry with the same key and request replays the
+     * stored response, and a concurrent duplicate waits for the first request and shares its outcome.
+     * Only successful responses are stored. A null key runs the action directly.
+     *
+     * @param operation method and path, so a key reused on another endpoint is rejected
+     */
+    ResponseEntity<CustomerResponseDTO> execute(String key, String operation, Object request,
+                                                Supplier<ResponseEntity<CustomerResponseDTO>> action);
+}
@@ -0,0 +1,45 @@
+package com.test.customercrud.service.Impl;
+
+import com.test.customercrud.config.OutboxProperties;
+import com.test.customercrud.service.CustomerEventService;
+import java.util.function.IntSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "customer.outbox", name = "publisher-enabled", havingValue = "true",
+        matchIfMissing = true)
+public class CustomerEventPublisher {
+    private final CustomerEventService customerEventService;
+    private final OutboxProperties outboxProperties;
+
+    @Scheduled(fixedDelayString = "${customer.outbox.publish-interval:PT1S}")
+    public void publish() {
+        drain(customerEventService::sequencePending, "Sequencing");
+        drain(customerEventService::publishPending, "Publishing");
+    }
+
+    @Scheduled(fixedDelayString = "${customer.outbox.purge-interval:PT1H}")
+    public void purge() {
+        int purged = customerEventService.purgePublished();
+        if (purged > 0) {
+            log.info("Purged {} published customer events", purged);
+        }
+    }
+
+    private void drain(IntSupplier step, String stepName) {
+        try {
+            int processed;
+            do {
+                processed = step.getAsInt();
+            } while (processed == outboxProperties.getBatchSize());
+        } catch (RuntimeException e) {
+            log.warn("{} customer events failed, retrying on the next run", stepName, e);
+        }
+    }
+}
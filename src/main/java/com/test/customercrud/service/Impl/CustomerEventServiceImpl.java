@@ -0,0 +1,146 @@
+package com.test.customercrud.service.Impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.customercrud.config.OutboxProperties;
+import com.test.customercrud.dto.CustomerChangeDTO;
+import com.test.customercrud.dto.CustomerChangesResponseDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.model.CustomerEvent;
+import com.test.customercrud.model.CustomerEventType;
+import com.test.customercrud.repository.CustomerEventRepository;
+import com.test.customercrud.service.CustomerEventService;
+import com.test.customercrud.service.sink.CustomerEventSink;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerEventServiceImpl implements CustomerEventService {
+    static final int MAX_CHANGES_PAGE_SIZE = 1000;
+
+    private final CustomerEventRepository customerEventRepository;
+    private final CustomerEventSink customerEventSink;
+    private final OutboxProperties outboxProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(CustomerEventType type, Long customerId, CustomerResponseDTO customer) {
+        customerEventRepository.save(toEvent(type, customerId, customer, System.currentTimeMillis()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(CustomerEventType type, List<CustomerResponseDTO> customers) {
+        long now = System.currentTimeMillis();
+        customerEventRepository.insertAll(customers.stream()
+                .map(customer -> toEvent(type, customer.getId(), customer, now))
+                .toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(List<Long> customerIds) {
+        long now = System.currentTimeMillis();
+        customerEventRepository.insertAll(customerIds.stream()
+                .map(customerId -> toEvent(CustomerEventType.DELETED, customerId, null, now))
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerChangesResponseDTO getChanges(long since, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_CHANGES_PAGE_SIZE);
+        List<CustomerEvent> events = customerEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(
+                Math.max(since, 0), Limit.of(pageSize + 1));
+
+        boolean hasMore = events.size() > pageSize;
+        List<CustomerChangeDTO> items = (hasMore ? events.subList(0, pageSize) : events).stream()
+                .map(this::toChange)
+                .toList();
+        return CustomerChangesResponseDTO.builder()
+                .items(items)
+                .nextSince(items.isEmpty() ? since : items.get(items.size() - 1).getSequence())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public int sequencePending() {
+        List<Long> ids = customerEventRepository.findBySequenceIsNullOrderByIdAsc(
+                        Limit.of(outboxProperties.getBatchSize())).stream()
+                .map(CustomerEvent::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // MAX only sees committed sequences, so a concurrent sequencer picks the same numbers and fails on the
+        // unique index instead of committing a number that readers could see before a lower one.
+        customerEventRepository.assignSequences(ids, customerEventRepository.findMaxSequence() + 1);
+        return ids.size();
+    }
+
+    @Override
+    @Transactional
+    public int publishPending() {
+        List<CustomerEvent> events = customerEventRepository.findByPublishedIsNullOrderByIdAsc(
+                Limit.of(outboxProperties.getBatchSize()));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        try {
+            customerEventSink.publish(events.stream().map(this::toChange).toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to publish customer events", e);
+        }
+        customerEventRepository.markPublished(events.stream().map(CustomerEvent::getId).toList(),
+                System.currentTimeMillis());
+        return events.size();
+    }
+
+    @Override
+    @Transactional
+    public int purgePublished() {
+        return customerEventRepository.deletePublishedBefore(
+                System.currentTimeMillis() - outboxProperties.getRetention().toMillis());
+    }
+
+    private CustomerEvent toEvent(CustomerEventType type, Long customerId, CustomerResponseDTO customer,
+                                  long created) {
+        try {
+            return CustomerEvent.builder()
+                    .customerId(customerId)
+                    .type(type)
+                    .payload(customer == null ? null : objectMapper.writeValueAsString(customer))
+                    .created(created)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CustomerChangeDTO toChange(CustomerEvent event) {
+        try {
+            return CustomerChangeDTO.builder()
+                    .id(event.getId())
+                    .sequence(event.getSequence())
+                    .customerId(event.getCustomerId())
+                    .type(event.getType())
+                    .created(event.getCreated())
+                    .customer(event.getPayload() == null
+                            ? null
+                            : objectMapper.readValue(event.getPayload(), CustomerResponseDTO.class))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,59 +1,473 @@
 package com.test.customercrud.service.Impl;
 
+import com.test.customercrud.config.CachingConfig;
+import com.test.customercrud.config.ReadRouting;
+import com.test.customercrud.dto.CustomerBatchItemResultDTO;
+import com.test.customercrud.dto.CustomerBatchItemStatus;
+import com.test.customercrud.dto.CustomerBulkItemResultDTO;
+import com.test.customercrud.dto.CustomerBulkItemStatus;
+import com.test.customercrud.dto.CustomerBulkPatchRequestDTO;
 import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerLookupResponseDTO;
+import com.test.customercrud.dto.CustomerPageResponseDTO;
 import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerSearchMatch;
+import com.test.customercrud.dto.CustomerSearchRequestDTO;
+import com.test.customercrud.dto.CustomerSliceResponseDTO;
 import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import com.test.customercrud.dto.CustomerUpsertResultDTO;
+import com.test.customercrud.dto.CustomerUpsertStatus;
 import com.test.customercrud.exception.CustomerNotFoundException;
+import com.test.customercrud.exception.DuplicateEmailException;
+import com.test.customercrud.exception.InvalidBulkRequestException;
+import com.test.customercrud.exception.InvalidCursorException;
+import com.test.customercrud.exception.InvalidSearchRequestException;
+import com.test.customercrud.exception.PreconditionFailedException;
 import com.test.customercrud.mapper.CustomerMapper;
 import com.test.customercrud.model.Customer;
+import com.test.customercrud.model.CustomerEventType;
 import com.test.customercrud.repository.CustomerRepository;
+import com.test.customercrud.service.CustomerEventService;
 import com.test.customercrud.service.CustomerService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
+@CacheConfig(cacheNames = CachingConfig.CUSTOMERS_CACHE)
 public class CustomerServiceImpl implements CustomerService {
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int MAX_SEARCH_PAGE_SIZE = 100;
+    static final int MAX_SEARCH_OFFSET = 10_000;
+    static final int BULK_CHUNK_SIZE = 500;
+    private static final String CURSOR_PREFIX = "id:";
+
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final CustomerEventService customerEventService;
+    private final CacheManager cacheManager;
+    private final EmailBloomFilter emailBloomFilter;
 
     @Override
+    @Transactional
     public CustomerResponseDTO create(CustomerCreateRequestDTO dto) {
+        if (emailExists(dto.getEmail())) {
+            throw new DuplicateEmailException(duplicateEmailMessage(dto.getEmail()));
+        }
         Customer customer = customerMapper.toCustomer(dto);
         customer = customerRepository.save(customer);
-        return customerMapper.toCustomerResponseDTO(customer);
+        emailBloomFilter.put(customer.getEmail());
+        CustomerResponseDTO response = customerMapper.toCustomerResponseDTO(customer);
+        customerEventService.record(CustomerEventType.CREATED, response.getId(), response);
+        return response;
     }
 
     @Override
-    public List<CustomerResponseDTO> getAll() {
-        return customerRepository.findAll().stream()
-                .map(customerMapper::toCustomerResponseDTO)
-                .toList();
+    @Transactional
+    public List<CustomerBatchItemResultDTO> createAll(List<CustomerCreateRequestDTO> dtos) {
+        Set<String> existingEmails = findExistingEmails(dtos);
+        Set<String> requestedEmails = new HashSet<>();
+        CustomerBatchItemResultDTO[] results = new CustomerBatchItemResultDTO[dtos.size()];
+        List<Integer> pendingIndexes = new ArrayList<>();
+        List<Customer> pendingCustomers = new ArrayList<>();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            CustomerCreateRequestDTO dto = dtos.get(i);
+            String violations = validate(dto);
+            if (violations != null) {
+                results[i] = failedItem(i, violations);
+            } else if (existingEmails.contains(normalizeEmail(dto.getEmail()))
+                    || !requestedEmails.add(normalizeEmail(dto.getEmail()))) {
+                results[i] = failedItem(i, duplicateEmailMessage(dto.getEmail()));
+            } else {
+                pendingIndexes.add(i);
+                pendingCustomers.add(customerMapper.toCustomer(dto));
+            }
+        }
+
+        customerRepository.insertAll(pendingCustomers);
+        List<CustomerResponseDTO> created = new ArrayList<>();
+        for (int i = 0; i < pendingCustomers.size(); i++) {
+            int index = pendingIndexes.get(i);
+            Customer customer = pendingCustomers.get(i);
+            if (customer.getId() == null) {
+                results[index] = failedItem(index, duplicateEmailMessage(customer.getEmail()));
+            } else {
+                emailBloomFilter.put(customer.getEmail());
+                CustomerResponseDTO response = customerMapper.toCustomerResponseDTO(customer);
+                created.add(response);
+                results[index] = CustomerBatchItemResultDTO.builder()
+                        .index(index)
+                        .status(CustomerBatchItemStatus.CREATED)
+                        .customer(response)
+                        .build();
+            }
+        }
+        customerEventService.recordAll(CustomerEventType.CREATED, created);
+        return List.of(results);
+    }
+
+    @Override
+    @Transactional
+    public CustomerUpsertResultDTO upsert(CustomerCreateRequestDTO request) {
+        return upsertCustomers(List.of(request)).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<CustomerUpsertResultDTO> upsertAll(List<CustomerCreateRequestDTO> requests) {
+        return upsertCustomers(requests);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerPageResponseDTO getAll(String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<CustomerResponseDTO> customers = customerRepository.findResponsesByIdGreaterThan(
+                decodeCursor(cursor), Limit.of(pageSize + 1));
+
+        boolean hasNext = customers.size() > pageSize;
+        List<CustomerResponseDTO> items = hasNext ? customers.subList(0, pageSize) : customers;
+        String nextCursor = hasNext ? encodeCursor(items.get(items.size() - 1).getId()) : null;
+
+        return CustomerPageResponseDTO.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerSliceResponseDTO search(CustomerSearchRequestDTO request) {
+        long filters = Stream.of(request.getFullName(), request.getEmail(), request.getPhone())
+                .filter(Objects::nonNull)
+                .count();
+        if (filters != 1) {
+            throw new InvalidSearchRequestException(
+                    "Exactly one of fullName, email or phone must be provided");
+        }
+        if (request.getPage() < 0) {
+            throw new InvalidSearchRequestException("Page must not be negative");
+        }
+        boolean exact = request.getMatch() == CustomerSearchMatch.EXACT;
+        int size = Math.min(Math.max(request.getSize(), 1), MAX_SEARCH_PAGE_SIZE);
+        if ((long) request.getPage() * size >= MAX_SEARCH_OFFSET) {
+            throw new InvalidSearchRequestException(
+                    "Search is limited to the first %d matches, narrow the filter".formatted(MAX_SEARCH_OFFSET));
+        }
+
+        Slice<Customer> customers;
+        if (request.getFullName() != null) {
+            Pageable pageable = searchPage(request.getPage(), size, "fullName");
+            customers = exact
+                    ? customerRepository.findByFullName(request.getFullName(), pageable)
+                    : customerRepository.findByFullNameStartingWith(request.getFullName(), pageable);
+        } else if (request.getEmail() != null) {
+            Pageable pageable = searchPage(request.getPage(), size, "email");
+            customers = exact
+                    ? customerRepository.findByEmail(request.getEmail(), pageable)
+                    : customerRepository.findByEmailStartingWith(request.getEmail(), pageable);
+        } else {
+            Pageable pageable = searchPage(request.getPage(), size, "phone");
+            customers = exact
+                    ? customerRepository.findByPhone(request.getPhone(), pageable)
+                    : customerRepository.findByPhoneStartingWith(request.getPhone(), pageable);
+        }
+
+        return CustomerSliceResponseDTO.builder()
+                .items(customers.map(customerMapper::toCustomerResponseDTO).getContent())
+                .page(request.getPage())
+                .size(size)
+                .hasNext(customers.hasNext() && (long) (request.getPage() + 1) * size < MAX_SEARCH_OFFSET)
+                .build();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<CustomerResponseDTO> consumer) {
+        try (Stream<Customer> customers = customerRepository.streamAll()) {
+            customers.forEach(customer -> {
+                consumer.accept(customerMapper.toCustomerResponseDTO(customer));
+                entityManager.detach(customer);
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(key = "#id", sync = true)
     public CustomerResponseDTO get(Long id) {
-        Customer customer = isPresent(id);
-        return customerMapper.toCustomerResponseDTO(customer);
+        return ReadRouting.onPrimary(() -> customerRepository.findResponseById(id)).orElseThrow(() -> notFound(id));
     }
 
     @Override
-    public CustomerResponseDTO update(Long id, CustomerUpdateRequestDTO dto) {
+    @Transactional(readOnly = true)
+    public CustomerLookupResponseDTO lookup(List<Long> ids) {
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        Map<Long, CustomerResponseDTO> found = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctIds.size()));
+            customerRepository.findResponsesByIdIn(chunk).forEach(customer -> found.put(customer.getId(), customer));
+        }
+
+        return CustomerLookupResponseDTO.builder()
+                .customers(distinctIds.stream().map(found::get).filter(Objects::nonNull).toList())
+                .missingIds(distinctIds.stream().filter(id -> !found.containsKey(id)).toList())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    @CachePut(key = "#id")
+    public CustomerResponseDTO update(Long id, CustomerUpdateRequestDTO dto, Long expectedVersion) {
         Customer customer = isPresent(id);
+        if (expectedVersion != null && !expectedVersion.equals(customer.getVersion())) {
+            throw new PreconditionFailedException("Customer %s has been modified".formatted(id));
+        }
         customerMapper.updateCustomerFromDTO(dto, customer);
-        customer = customerRepository.save(customer);
-        return customerMapper.toCustomerResponseDTO(customer);
+        customerRepository.flush();
+        CustomerResponseDTO response = customerMapper.toCustomerResponseDTO(customer);
+        customerEventService.record(CustomerEventType.UPDATED, id, response);
+        return response;
     }
 
     @Override
+    @Transactional
+    @CacheEvict(key = "#id")
     public void delete(Long id) {
-        isPresent(id);
-        customerRepository.deleteById(id);
+        if (customerRepository.deactivateById(id, System.currentTimeMillis()) == 0) {
+            throw notFound(id);
+        }
+        customerEventService.record(CustomerEventType.DELETED, id, null);
+    }
+
+    @Override
+    @Transactional
+    public List<CustomerBulkItemResultDTO> deleteAll(List<Long> ids) {
+        return bulkUpdate(ids, CustomerBulkItemStatus.DELETED, (activeIds, updated) -> {
+            customerRepository.deactivateAllById(activeIds, updated);
+            customerEventService.recordDeleted(activeIds);
+        });
+    }
+
+    @Override
+    @Transactional
+    public List<CustomerBulkItemResultDTO> patchAll(CustomerBulkPatchRequestDTO request) {
+        if (request.getFullName() == null && request.getPhone() == null) {
+            throw new InvalidBulkRequestException("At least one of fullName or phone must be provided");
+        }
+        return bulkUpdate(request.getIds(), CustomerBulkItemStatus.UPDATED, (activeIds, updated) -> {
+            customerRepository.patchAllById(activeIds, request.getFullName(), request.getPhone(), updated);
+            customerEventService.recordAll(CustomerEventType.UPDATED,
+                    customerRepository.findResponsesByIdIn(activeIds));
+        });
+    }
+
+    private List<CustomerUpsertResultDTO> upsertCustomers(List<CustomerCreateRequestDTO> requests) {
+        Map<String, Customer> customers = new LinkedHashMap<>();
+        requests.forEach(request ->
+                customers.put(normalizeEmail(request.getEmail()), customerMapper.toCustomer(request)));
+        List<Customer> upserted = List.copyOf(customers.values());
+        Set<Long> reactivatedIds = customerRepository.upsertAll(upserted);
+        upserted.forEach(customer -> emailBloomFilter.put(customer.getEmail()));
+
+        // A reactivated soft-deleted row is new to clients, so it is reported as created.
+        Predicate<Customer> isCreated = customer ->
+                customer.getVersion() == 0 || reactivatedIds.contains(customer.getId());
+        Map<String, CustomerResponseDTO> responses = new HashMap<>();
+        List<CustomerResponseDTO> created = new ArrayList<>();
+        List<CustomerResponseDTO> updated = new ArrayList<>();
+        customers.forEach((email, customer) -> {
+            CustomerResponseDTO response = customerMapper.toCustomerResponseDTO(customer);
+            responses.put(email, response);
+            (isCreated.test(customer) ? created : updated).add(response);
+        });
+        customerEventService.recordAll(CustomerEventType.CREATED, created);
+        customerEventService.recordAll(CustomerEventType.UPDATED, updated);
+        evictAfterCommit(upserted.stream()
+                .filter(customer -> customer.getVersion() != 0)
+                .map(Customer::getId)
+                .collect(Collectors.toSet()));
+
+        // Every occurrence of a repeated email reports the row written by the last one.
+        return IntStream.range(0, requests.size())
+                .mapToObj(i -> {
+                    String email = normalizeEmail(requests.get(i).getEmail());
+                    return CustomerUpsertResultDTO.builder()
+                            .index(i)
+                            .status(isCreated.test(customers.get(email))
+                                    ? CustomerUpsertStatus.CREATED
+                                    : CustomerUpsertStatus.UPDATED)
+                            .customer(responses.get(email))
+                            .build();
+                })
+                .toList();
+    }
+
+    private List<CustomerBulkItemResultDTO> bulkUpdate(List<Long> ids, CustomerBulkItemStatus status,
+                                                       BiConsumer<List<Long>, Long> update) {
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        long updated = System.currentTimeMillis();
+        Set<Long> affectedIds = new HashSet<>();
+        for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctIds.size()));
+            List<Long> activeIds = customerRepository.lockActiveIds(chunk);
+            if (!activeIds.isEmpty()) {
+                update.accept(activeIds, updated);
+                affectedIds.addAll(activeIds);
+            }
+        }
+        evictAfterCommit(affectedIds);
+
+        return distinctIds.stream()
+                .map(id -> CustomerBulkItemResultDTO.builder()
+                        .id(id)
+                        .status(affectedIds.contains(id) ? status : CustomerBulkItemStatus.NOT_FOUND)
+                        .build())
+                .toList();
+    }
+
+    private void evictAfterCommit(Set<Long> ids) {
+        Cache cache = cacheManager.getCache(CachingConfig.CUSTOMERS_CACHE);
+        if (cache == null || ids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(cache::evict);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(cache::evict);
+            }
+        });
+    }
+
+    private Pageable searchPage(int page, int size, String property) {
+        return PageRequest.of(page, size, Sort.by(property, "id"));
+    }
+
+    private Set<String> findExistingEmails(List<CustomerCreateRequestDTO> dtos) {
+        List<String> emails = dtos.stream()
+                .map(CustomerCreateRequestDTO::getEmail)
+                .filter(email -> email != null && !email.isBlank())
+                .filter(emailBloomFilter::mightContain)
+                .distinct()
+                .toList();
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return customerRepository.findExistingEmails(emails).stream()
+                .map(this::normalizeEmail)
+                .collect(Collectors.toSet());
+    }
+
+    private boolean emailExists(String email) {
+        if (!emailBloomFilter.mightContain(email)) {
+            return false;
+        }
+        boolean exists = customerRepository.countByEmailIncludingDeleted(email) > 0;
+        emailBloomFilter.recordConfirmed(exists);
+        return exists;
+    }
+
+    private String validate(CustomerCreateRequestDTO dto) {
+        if (dto == null) {
+            return "Customer must not be null";
+        }
+        Set<ConstraintViolation<CustomerCreateRequestDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.joining(", "));
+    }
+
+    private String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private String duplicateEmailMessage(String email) {
+        return "Customer with email %s already exists".formatted(email);
+    }
+
+    private CustomerBatchItemResultDTO failedItem(int index, String error) {
+        return CustomerBatchItemResultDTO.builder()
+                .index(index)
+                .status(CustomerBatchItemStatus.FAILED)
+                .error(error)
+                .build();
+    }
+
+    private String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidCursorException("Invalid cursor: %s".formatted(cursor));
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: %s".formatted(cursor));
+        }
     }
 
     private Customer isPresent(Long id) {
         return customerRepository.findById(id)
-                .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: %s".formatted(id)));
+                .orElseThrow(() -> notFound(id));
+    }
+
+    private CustomerNotFoundException notFound(Long id) {
+        return new CustomerNotFoundException("Customer not found with id: %s".formatted(id));
     }
 }
@@ -0,0 +1,119 @@
+package com.test.customercrud.service.Impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over customer emails. {@link #mightContain} returning false means the email
+ * is definitely not stored by this instance. Until {@link #markLoaded()} is called it answers
+ * "maybe" for every email, so callers fall back to the database.
+ * <p>
+ * Emails are case-folded to match the case-insensitive unique index. Nothing is ever removed: a
+ * soft-deleted customer keeps its email in the unique index.
+ */
+public class EmailBloomFilter {
+    static final String SIZE_GAUGE = "customer.email.filter.size";
+    static final String FALSE_POSITIVE_RATE_GAUGE = "customer.email.filter.false.positive.rate";
+    static final String CHECKS_COUNTER = "customer.email.filter.checks";
+
+    private final long numBits;
+    private final int numHashes;
+    private final AtomicLongArray words;
+    private final AtomicLong bitsSet = new AtomicLong();
+    private final Counter absent;
+    private final Counter duplicates;
+    private final Counter falsePositives;
+    private volatile boolean loaded;
+
+    public EmailBloomFilter(long expectedInsertions, double falsePositiveProbability, MeterRegistry meterRegistry) {
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability)
+                / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (bits + Long.SIZE - 1) / Long.SIZE);
+        this.numBits = (long) wordCount * Long.SIZE;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        this.words = new AtomicLongArray(wordCount);
+
+        Gauge.builder(SIZE_GAUGE, this, EmailBloomFilter::sizeInBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(FALSE_POSITIVE_RATE_GAUGE, this, EmailBloomFilter::expectedFalsePositiveRate)
+                .register(meterRegistry);
+        this.absent = meterRegistry.counter(CHECKS_COUNTER, "result", "absent");
+        this.duplicates = meterRegistry.counter(CHECKS_COUNTER, "result", "duplicate");
+        this.falsePositives = meterRegistry.counter(CHECKS_COUNTER, "result", "false_positive");
+    }
+
+    public boolean mightContain(String email) {
+        if (!loaded) {
+            return true;
+        }
+        long hash = hash(email);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = bitIndex(hash, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                absent.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String email) {
+        long hash = hash(email);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = bitIndex(hash, i);
+            long mask = 1L << bit;
+            if ((words.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m) & mask) == 0) {
+                bitsSet.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Records the database answer for an email this filter reported as possibly present.
+     */
+    public void recordConfirmed(boolean duplicate) {
+        (duplicate ? duplicates : falsePositives).increment();
+    }
+
+    public void markLoaded() {
+        loaded = true;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    long sizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    /**
+     * Probability that an absent email is reported as present, given the bits set so far.
+     */
+    double expectedFalsePositiveRate() {
+        return Math.pow((double) bitsSet.get() / numBits, numHashes);
+    }
+
+    private long bitIndex(long hash, int i) {
+        // Kirsch-Mitzenmacher: derive all probes from the two halves of one 64-bit hash.
+        return Math.floorMod(hash + i * ((hash >>> 32) | 1), numBits);
+    }
+
+    private long hash(String email) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : email.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ b) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb34f97ab6d0fL;
+        return hash ^ (hash >>> 33);
+    }
+}
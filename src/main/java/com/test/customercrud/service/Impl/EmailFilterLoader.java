@@ -0,0 +1,42 @@
+package com.test.customercrud.service.Impl;
+
+import com.test.customercrud.repository.CustomerRepository;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailFilterLoader {
+    private final CustomerRepository customerRepository;
+    private final EmailBloomFilter emailBloomFilter;
+
+    /**
+     * Streams every stored email, including deactivated customers, into the filter. If the scan
+     * fails the filter stays unloaded and every create is checked against the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        try (Stream<String> emails = customerRepository.streamAllEmails()) {
+            emails.forEach(email -> {
+                emailBloomFilter.put(email);
+                loaded.incrementAndGet();
+            });
+            emailBloomFilter.markLoaded();
+            log.info("Loaded {} emails into the email filter in {} ms", loaded.get(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            log.warn("Loading the email filter failed, duplicate checks will query the database", e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.test.customercrud.service.Impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.customercrud.config.IdempotencyProperties;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.IdempotentResponseDTO;
+import com.test.customercrud.exception.IdempotencyKeyInProgressException;
+import com.test.customercrud.exception.IdempotencyKeyReusedException;
+import com.test.customercrud.exception.InvalidIdempotencyKeyException;
+import com.test.customercrud.service.IdempotencyService;
+import com.test.customercrud.service.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class IdempotencyServiceImpl implements IdempotencyService {
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String REPLAYED_COUNTER = "customer.idempotency.replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponseDTO>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public ResponseEntity<CustomerResponseDTO> execute(String key, String operation, Object request,
+                                                       Supplier<ResponseEntity<CustomerResponseDTO>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(
+                    "Idempotency-Key must be between 1 and %d characters".formatted(MAX_KEY_LENGTH));
+        }
+        String fingerprint = fingerprint(operation, request);
+        Optional<IdempotentResponseDTO> stored = idempotencyStore.find(key);
+        if (stored.isPresent()) {
+            return replay(key, fingerprint, stored.get(), "stored");
+        }
+
+        CompletableFuture<IdempotentResponseDTO> flight = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponseDTO> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return replay(key, fingerprint, await(key, leader), "coalesced");
+        }
+        try {
+            // The first request may have completed between the lookup and registering this one.
+            stored = idempotencyStore.find(key);
+            if (stored.isPresent()) {
+                flight.complete(stored.get());
+                return replay(key, fingerprint, stored.get(), "stored");
+            }
+            ResponseEntity<CustomerResponseDTO> response = action.get();
+            IdempotentResponseDTO completed = IdempotentResponseDTO.builder()
+                    .fingerprint(fingerprint)
+                    .status(response.getStatusCode().value())
+                    .body(response.getBody())
+                    .build();
+            if (response.getStatusCode().is2xxSuccessful()) {
+                idempotencyStore.save(key, completed);
+            }
+            flight.complete(completed);
+            return response;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private IdempotentResponseDTO await(String key, CompletableFuture<IdempotentResponseDTO> leader) {
+        try {
+            return leader.get(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Request with idempotency key " + key + " failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw inProgress(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress(key);
+        }
+    }
+
+    private ResponseEntity<CustomerResponseDTO> replay(String key, String fingerprint,
+                                                       IdempotentResponseDTO response, String source) {
+        if (!response.getFingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException(
+                    "Idempotency key %s was already used for a different request".formatted(key));
+        }
+        meterRegistry.counter(REPLAYED_COUNTER, "source", source).increment();
+        return ResponseEntity.status(response.getStatus())
+                .header(REPLAYED_HEADER, "true")
+                .body(response.getBody());
+    }
+
+    private IdempotencyKeyInProgressException inProgress(String key) {
+        return new IdempotencyKeyInProgressException(
+                "Request with idempotency key %s is still in progress".formatted(key));
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+}
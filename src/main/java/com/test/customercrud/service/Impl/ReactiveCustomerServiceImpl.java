@@ -0,0 +1,96 @@
+package com.test.customercrud.service.Impl;
+
+import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import com.test.customercrud.exception.CustomerNotFoundException;
+import com.test.customercrud.exception.PreconditionFailedException;
+import com.test.customercrud.mapper.CustomerMapper;
+import com.test.customercrud.repository.ReactiveCustomerRepository;
+import com.test.customercrud.service.ReactiveCustomerService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveCustomerServiceImpl implements ReactiveCustomerService {
+    private final ReactiveCustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+    private final TransactionalOperator transactionalOperator;
+    private final Validator validator;
+
+    @Override
+    public Mono<CustomerResponseDTO> create(CustomerCreateRequestDTO dto) {
+        return validate(dto)
+                .then(Mono.defer(() -> customerRepository.insert(customerMapper.toCustomer(dto))))
+                .map(customerMapper::toCustomerResponseDTO);
+    }
+
+    @Override
+    public Mono<CustomerResponseDTO> get(Long id) {
+        return customerRepository.findResponseById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    @Override
+    public Flux<CustomerResponseDTO> getAll() {
+        return customerRepository.findAllResponses();
+    }
+
+    @Override
+    public Mono<CustomerResponseDTO> update(Long id, CustomerUpdateRequestDTO dto, Long expectedVersion) {
+        return validate(dto)
+                .then(Mono.defer(() -> customerRepository.findById(id)))
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .flatMap(customer -> {
+                    if (expectedVersion != null && !expectedVersion.equals(customer.getVersion())) {
+                        return Mono.error(new PreconditionFailedException(
+                                "Customer %s has been modified".formatted(id)));
+                    }
+                    long version = customer.getVersion();
+                    customerMapper.updateCustomerFromDTO(dto, customer);
+                    customer.setUpdated(System.currentTimeMillis());
+                    return customerRepository.update(id, customer, version)
+                            .flatMap(rows -> rows == 0
+                                    ? Mono.error(new OptimisticLockingFailureException(
+                                            "Customer %s was modified concurrently".formatted(id)))
+                                    : Mono.just(customerMapper.toCustomerResponseDTO(customer)));
+                })
+                .as(transactionalOperator::transactional);
+    }
+
+    @Override
+    public Mono<Void> delete(Long id) {
+        return customerRepository.deactivateById(id, System.currentTimeMillis())
+                .flatMap(rows -> rows == 0 ? Mono.error(notFound(id)) : Mono.empty());
+    }
+
+    private <T> Mono<Void> validate(T dto) {
+        return Mono.fromRunnable(() -> {
+            Set<ConstraintViolation<T>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted(Comparator.naturalOrder())
+                        .collect(Collectors.joining(", "));
+                throw new ConstraintViolationException(message, violations);
+            }
+        });
+    }
+
+    private CustomerNotFoundException notFound(Long id) {
+        return new CustomerNotFoundException("Customer not found with id: %s".formatted(id));
+    }
+}
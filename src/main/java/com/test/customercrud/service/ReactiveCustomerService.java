@@ -0,0 +1,19 @@
+package com.test.customercrud.service;
+
+import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCustomerService {
+    Mono<CustomerResponseDTO> create(CustomerCreateRequestDTO request);
+
+    Mono<CustomerResponseDTO> get(Long id);
+
+    Flux<CustomerResponseDTO> getAll();
+
+    Mono<CustomerResponseDTO> update(Long id, CustomerUpdateRequestDTO request, Long expectedVersion);
+
+    Mono<Void> delete(Long id);
+}
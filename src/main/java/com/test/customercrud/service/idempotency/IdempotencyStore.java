@@ -0,0 +1,16 @@
+package com.test.customercrud.service.idempotency;
+
+import com.test.customercrud.dto.IdempotentResponseDTO;
+import java.util.Optional;
+
+public interface IdempotencyStore {
+    /**
+     * Returns the completed response stored under the key, unless it has expired.
+     */
+    Optional<IdempotentResponseDTO> find(String key);
+
+    /**
+     * Stores a completed response. An existing entry for the key is kept unless it has expired.
+     */
+    void save(String key, IdempotentResponseDTO response);
+}
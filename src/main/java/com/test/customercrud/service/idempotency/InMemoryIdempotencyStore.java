@@ -0,0 +1,28 @@
+package com.test.customercrud.service.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test.customercrud.dto.IdempotentResponseDTO;
+import java.time.Duration;
+import java.util.Optional;
+
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    private final Cache<String, IdempotentResponseDTO> responses;
+
+    public InMemoryIdempotencyStore(Duration ttl, long maximumSize) {
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public Optional<IdempotentResponseDTO> find(String key) {
+        return Optional.ofNullable(responses.getIfPresent(key));
+    }
+
+    @Override
+    public void save(String key, IdempotentResponseDTO response) {
+        responses.asMap().putIfAbsent(key, response);
+    }
+}
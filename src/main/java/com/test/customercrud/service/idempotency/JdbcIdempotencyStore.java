@@ -0,0 +1,89 @@
+package com.test.customercrud.service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.IdempotentResponseDTO;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Keeps completed responses in the {@code idempotency_keys} table so they survive restarts and are
+ * shared between instances. Expired rows are ignored on read, replaced on save and purged periodically.
+ * Keys are not reserved while a request runs, so two instances receiving the same key at once both
+ * execute it and the first response saved is the one replayed.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    private static final String SELECT_SQL =
+            "SELECT fingerprint, status, body FROM idempotency_keys WHERE idempotency_key = ? AND created >= ?";
+    private static final String INSERT_SQL = """
+            INSERT INTO idempotency_keys (idempotency_key, fingerprint, status, body, created)
+            VALUES (?, ?, ?, ?, ?)""";
+    private static final String REPLACE_EXPIRED_SQL = """
+            UPDATE idempotency_keys SET fingerprint = ?, status = ?, body = ?, created = ?
+            WHERE idempotency_key = ? AND created < ?""";
+    private static final String PURGE_SQL = "DELETE FROM idempotency_keys WHERE created < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    @Override
+    public Optional<IdempotentResponseDTO> find(String key) {
+        return jdbcTemplate.query(SELECT_SQL, (row, rowNum) -> IdempotentResponseDTO.builder()
+                                .fingerprint(row.getString("fingerprint"))
+                                .status(row.getInt("status"))
+                                .body(readBody(row.getString("body")))
+                                .build(),
+                        key, System.currentTimeMillis() - ttl.toMillis())
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public void save(String key, IdempotentResponseDTO response) {
+        String body = writeBody(key, response);
+        long now = System.currentTimeMillis();
+        try {
+            jdbcTemplate.update(INSERT_SQL, key, response.getFingerprint(), response.getStatus(), body, now);
+        } catch (DuplicateKeyException e) {
+            // An expired row the purge has not reached yet is replaced; a live one is kept.
+            int replaced = jdbcTemplate.update(REPLACE_EXPIRED_SQL, response.getFingerprint(), response.getStatus(),
+                    body, now, key, now - ttl.toMillis());
+            if (replaced == 0) {
+                log.debug("Response for idempotency key {} already stored", key);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${customer.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update(PURGE_SQL, System.currentTimeMillis() - ttl.toMillis());
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private String writeBody(String key, IdempotentResponseDTO response) {
+        try {
+            return objectMapper.writeValueAsString(response.getBody());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response for idempotency key " + key, e);
+        }
+    }
+
+    private CustomerResponseDTO readBody(String body) {
+        try {
+            return objectMapper.readValue(body, CustomerResponseDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored idempotent response", e);
+        }
+    }
+}
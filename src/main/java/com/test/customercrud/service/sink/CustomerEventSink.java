@@ -0,0 +1,13 @@
+package com.test.customercrud.service.sink;
+
+import com.test.customercrud.dto.CustomerChangeDTO;
+import java.io.IOException;
+import java.util.List;
+
+public interface CustomerEventSink {
+    /**
+     * Delivers a batch of changes in event id order. A thrown exception leaves the whole batch
+     * unpublished, so it is delivered again on the next run.
+     */
+    void publish(List<CustomerChangeDTO> changes) throws IOException;
+}
@@ -0,0 +1,29 @@
+package com.test.customercrud.service.sink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.customercrud.dto.CustomerChangeDTO;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class FileCustomerEventSink implements CustomerEventSink {
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(List<CustomerChangeDTO> changes) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (CustomerChangeDTO change : changes) {
+                writer.write(objectMapper.writeValueAsString(change));
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.test.customercrud.service.sink;
+
+import com.test.customercrud.dto.CustomerChangeDTO;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class InMemoryCustomerEventSink implements CustomerEventSink {
+    private final List<CustomerChangeDTO> published = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<CustomerChangeDTO> changes) {
+        published.addAll(changes);
+    }
+
+    public List<CustomerChangeDTO> getPublished() {
+        return List.copyOf(published);
+    }
+
+    public void clear() {
+        published.clear();
+    }
+}
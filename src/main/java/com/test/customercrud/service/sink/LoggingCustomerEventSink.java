@@ -0,0 +1,21 @@
+package com.test.customercrud.service.sink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.customercrud.dto.CustomerChangeDTO;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class LoggingCustomerEventSink implements CustomerEventSink {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(List<CustomerChangeDTO> changes) throws IOException {
+        for (CustomerChangeDTO change : changes) {
+            log.info("Customer change: {}", objectMapper.writeValueAsString(change));
+        }
+    }
+}
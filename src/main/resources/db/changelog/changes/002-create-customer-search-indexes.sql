@@ -0,0 +1,8 @@
+CREATE INDEX idx_customers_active_full_name ON customers (is_active, full_name);
+CREATE INDEX idx_customers_active_phone ON customers (is_active, phone);
+
+-- Email searches use the unique index on email.
+
+-- Rollback script:
+-- DROP INDEX idx_customers_active_phone ON customers;
+-- DROP INDEX idx_customers_active_full_name ON customers;
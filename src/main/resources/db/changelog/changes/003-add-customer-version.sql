@@ -0,0 +1,4 @@
+ALTER TABLE customers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Rollback script:
+-- ALTER TABLE customers DROP COLUMN version;
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS customer_events (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    customer_id BIGINT NOT NULL,
+    type VARCHAR(16) NOT NULL,
+    payload VARCHAR(1024),
+    created BIGINT NOT NULL,
+    published BIGINT
+);
+CREATE INDEX idx_customer_events_published ON customer_events (published, id);
+
+-- Rollback script:
+-- DROP TABLE IF EXISTS customer_events;
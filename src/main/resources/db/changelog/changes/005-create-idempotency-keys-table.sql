@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    fingerprint CHAR(64) NOT NULL,
+    status INT NOT NULL,
+    body VARCHAR(1024),
+    created BIGINT NOT NULL
+);
+CREATE INDEX idx_idempotency_keys_created ON idempotency_keys (created);
+
+-- Rollback script:
+-- DROP TABLE IF EXISTS idempotency_keys;
@@ -0,0 +1,6 @@
+ALTER TABLE customer_events ADD COLUMN sequence_number BIGINT;
+CREATE UNIQUE INDEX idx_customer_events_sequence ON customer_events (sequence_number);
+
+-- Rollback script:
+-- DROP INDEX idx_customer_events_sequence ON customer_events;
+-- ALTER TABLE customer_events DROP COLUMN sequence_number;
@@ -0,0 +1,170 @@
+package com.test.customercrud.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.dao.QueryTimeoutException;
+import static com.test.customercrud.config.CoalescingCaffeineCacheTest.TestResources.KEY;
+import static com.test.customercrud.config.CoalescingCaffeineCacheTest.TestResources.LOAD_TIMEOUT;
+import static com.test.customercrud.config.CoalescingCaffeineCacheTest.TestResources.SHORT_LOAD_TIMEOUT;
+import static com.test.customercrud.config.CoalescingCaffeineCacheTest.TestResources.WAITERS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingCaffeineCacheTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoalescingCaffeineCache cache = new CoalescingCaffeineCache(
+            "customers", Caffeine.newBuilder().build(), true, LOAD_TIMEOUT, meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(WAITERS);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenConcurrentMisses_whenGet_thenSingleLoadSharedAndCached() throws Exception {
+        List<CompletableFuture<String>> results = getConcurrently(blockingLoader(() -> "customer"));
+        awaitCoalesced(WAITERS - 1);
+        release.countDown();
+
+        assertThat(results).allSatisfy(result -> assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("customer"));
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get(KEY, () -> "reloaded")).isEqualTo("customer");
+        assertThat(meterRegistry.get(CoalescingCaffeineCache.LOADS_COUNTER).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenFailingLoad_whenGet_thenExceptionSharedAndNothingCached() throws Exception {
+        IllegalStateException failure = new IllegalStateException("Customer not found");
+        List<CompletableFuture<String>> results = getConcurrently(blockingLoader(() -> {
+            throw failure;
+        }));
+        awaitCoalesced(WAITERS - 1);
+        release.countDown();
+
+        assertThat(results).allSatisfy(result -> assertThat(result)
+                .failsWithin(10, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .havingRootCause()
+                .isSameAs(failure));
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get(KEY)).isNull();
+        assertThat(cache.get(KEY, () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    void givenLoaderThrowsError_whenGet_thenErrorSharedAndNextCallReloads() throws Exception {
+        AssertionError failure = new AssertionError("Loader crashed");
+        List<CompletableFuture<String>> results = getConcurrently(blockingLoader(() -> {
+            throw failure;
+        }));
+        awaitCoalesced(WAITERS - 1);
+        release.countDown();
+
+        assertThat(results).allSatisfy(result -> assertThat(result)
+                .failsWithin(10, TimeUnit.SECONDS)
+                .withThrowableOfType(Exception.class)
+                .havingRootCause()
+                .isSameAs(failure));
+        assertThat(cache.get(KEY, () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    void givenLoadSlowerThanTimeout_whenGet_thenFollowerStopsWaiting() throws Exception {
+        CoalescingCaffeineCache impatientCache = new CoalescingCaffeineCache(
+                "customers", Caffeine.newBuilder().build(), true, SHORT_LOAD_TIMEOUT, meterRegistry);
+        Callable<String> loader = blockingLoader(() -> "customer");
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> impatientCache.get(KEY, loader),
+                executor);
+        awaitLoads(1);
+
+        assertThatThrownBy(() -> impatientCache.get(KEY, loader))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasCauseInstanceOf(QueryTimeoutException.class);
+        release.countDown();
+
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("customer");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void givenEvictDuringLoad_whenLoadCompletes_thenStaleResultNotCachedAndNextCallReloads() throws Exception {
+        CompletableFuture<String> stale = getConcurrently(blockingLoader(() -> "stale"), 1).get(0);
+        awaitLoads(1);
+
+        cache.evict(KEY);
+        assertThat(cache.get(KEY, () -> "fresh")).isEqualTo("fresh");
+        release.countDown();
+
+        assertThat(stale.get(10, TimeUnit.SECONDS)).isEqualTo("stale");
+        assertThat(cache.get(KEY, () -> "reloaded")).isEqualTo("fresh");
+    }
+
+    @Test
+    void givenPutDuringLoad_whenLoadCompletes_thenWrittenValueKept() throws Exception {
+        CompletableFuture<String> stale = getConcurrently(blockingLoader(() -> "stale"), 1).get(0);
+        awaitLoads(1);
+
+        cache.put(KEY, "updated");
+        release.countDown();
+
+        assertThat(stale.get(10, TimeUnit.SECONDS)).isEqualTo("stale");
+        assertThat(cache.get(KEY).get()).isEqualTo("updated");
+    }
+
+    private Callable<String> blockingLoader(Callable<String> result) {
+        return () -> {
+            loads.incrementAndGet();
+            assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+            return result.call();
+        };
+    }
+
+    private List<CompletableFuture<String>> getConcurrently(Callable<String> loader) {
+        return getConcurrently(loader, WAITERS);
+    }
+
+    private List<CompletableFuture<String>> getConcurrently(Callable<String> loader, int callers) {
+        return IntStream.range(0, callers)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.get(KEY, loader), executor))
+                .toList();
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.get(CoalescingCaffeineCache.COALESCED_COUNTER).counter().count() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void awaitLoads(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (loads.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    static class TestResources {
+        static final Long KEY = 1L;
+        static final int WAITERS = 8;
+        static final Duration LOAD_TIMEOUT = Duration.ofSeconds(10);
+        static final Duration SHORT_LOAD_TIMEOUT = Duration.ofMillis(100);
+    }
+}
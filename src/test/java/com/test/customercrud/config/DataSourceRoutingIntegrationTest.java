@@ -0,0 +1,83 @@
+package com.test.customercrud.config;
+
+import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.exception.CustomerNotFoundException;
+import com.test.customercrud.service.CustomerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import static com.test.customercrud.config.DataSourceRoutingIntegrationTest.TestResources.REPLICA_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "customer.datasource.routing.enabled=true",
+        "customer.datasource.routing.replicas[0].url=" + REPLICA_URL,
+        "customer.datasource.routing.read-your-writes-window=0s"})
+@ActiveProfiles("test")
+class DataSourceRoutingIntegrationTest {
+    @Autowired
+    private CustomerService customerService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createReplica() {
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.execute("""
+                CREATE TABLE IF NOT EXISTS customers (
+                    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+                    created BIGINT NOT NULL,
+                    updated BIGINT NOT NULL,
+                    full_name VARCHAR(50) NOT NULL,
+                    email VARCHAR(100) UNIQUE NOT NULL,
+                    phone VARCHAR(14),
+                    is_active BOOLEAN NOT NULL,
+                    version BIGINT NOT NULL DEFAULT 0)""");
+        replica.update("DELETE FROM customers");
+        replica.update("""
+                INSERT INTO customers (id, created, updated, full_name, email, phone, is_active)
+                VALUES (1000, 0, 0, 'Replica Customer', 'replica@example.com', NULL, true)""");
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.update("DELETE FROM customers");
+        jdbcTemplate.update("DELETE FROM customer_events");
+    }
+
+    @Test
+    void givenRoutingEnabled_whenWriteThenRead_thenWriteOnPrimaryAndReadOnReplica() {
+        CustomerResponseDTO created = customerService.create(CustomerCreateRequestDTO.builder()
+                .fullName("John Doe")
+                .email("john.doe@example.com")
+                .build());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customers WHERE id = ?",
+                Long.class, created.getId())).isEqualTo(1);
+        assertThat(customerService.getAll(null, 10).getItems())
+                .extracting(CustomerResponseDTO::getEmail)
+                .containsExactly("replica@example.com");
+    }
+
+    @Test
+    void givenRoutingEnabled_whenGet_thenCacheLoadedFromPrimary() {
+        CustomerResponseDTO created = customerService.create(CustomerCreateRequestDTO.builder()
+                .fullName("John Doe")
+                .email("john.doe@example.com")
+                .build());
+
+        assertThat(customerService.get(created.getId()).getEmail()).isEqualTo("john.doe@example.com");
+        assertThatThrownBy(() -> customerService.get(1000L)).isInstanceOf(CustomerNotFoundException.class);
+    }
+
+    static class TestResources {
+        static final String REPLICA_URL = "jdbc:h2:mem:customers_replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    }
+}
@@ -0,0 +1,46 @@
+package com.test.customercrud.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JacksonConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+            .withUserConfiguration(JacksonConfig.class);
+
+    @Test
+    void givenBlackbirdDisabled_whenContextStarts_thenModuleNotRegistered() {
+        contextRunner.withPropertyValues("customer.json.blackbird.enabled=false")
+                .run(context -> assertThat(context.getBean(ObjectMapper.class).getRegisteredModuleIds())
+                        .doesNotContain(new BlackbirdModule().getTypeId()));
+    }
+
+    @Test
+    void givenBlackbirdEnabled_whenDtosSerialized_thenJsonUnchanged() {
+        contextRunner.withPropertyValues("customer.json.blackbird.enabled=true").run(context -> {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            assertThat(objectMapper.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+
+            CustomerResponseDTO customer = CustomerResponseDTO.builder()
+                    .id(1L)
+                    .fullName("John Doe")
+                    .email("john.doe@example.com")
+                    .build();
+            assertThat(objectMapper.writeValueAsString(customer)).isEqualTo(
+                    "{\"id\":1,\"fullName\":\"John Doe\",\"email\":\"john.doe@example.com\",\"phone\":null}");
+            assertThat(objectMapper.readValue(
+                    "{\"fullName\":\"John Doe\",\"email\":\"john.doe@example.com\"}", CustomerCreateRequestDTO.class))
+                    .isEqualTo(CustomerCreateRequestDTO.builder()
+                            .fullName("John Doe")
+                            .email("john.doe@example.com")
+                            .build());
+        });
+    }
+}
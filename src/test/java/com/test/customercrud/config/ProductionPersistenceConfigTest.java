@@ -0,0 +1,108 @@
+package com.test.customercrud.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.springframework.mock.env.MockEnvironment;
+import static com.test.customercrud.config.ProductionPersistenceConfigTest.TestResources.CONFIGURED_POOL_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductionPersistenceConfigTest {
+
+    @Test
+    void givenProdProperties_whenValidated_thenNoProblems() throws IOException {
+        assertThat(ProductionPersistenceConfig.validate(prodEnvironment())).isEmpty();
+    }
+
+    @Test
+    void givenSqlLoggingAndNoStatementCache_whenValidated_thenProblemsReported() throws IOException {
+        MockEnvironment environment = prodEnvironment();
+        environment.setProperty("spring.jpa.show-sql", "true");
+        environment.setProperty("spring.datasource.hikari.data-source-properties.cachePrepStmts", "false");
+
+        assertThat(ProductionPersistenceConfig.validate(environment)).containsExactly(
+                "spring.jpa.show-sql must be false",
+                "spring.datasource.hikari.data-source-properties.cachePrepStmts must be true");
+    }
+
+    @Test
+    void givenStatisticsEnabled_whenValidated_thenNoProblems() throws IOException {
+        MockEnvironment environment = prodEnvironment();
+        environment.setProperty("spring.jpa.properties.hibernate.generate_statistics", "true");
+
+        assertThat(ProductionPersistenceConfig.validate(environment)).isEmpty();
+    }
+
+    @Test
+    void givenNoPoolSize_whenPrimaryPoolInitialized_thenSizedFromCpuCount() {
+        HikariDataSource dataSource = new HikariDataSource();
+
+        ProductionPersistenceConfig.hikariPoolSizer(new MockEnvironment())
+                .postProcessAfterInitialization(dataSource, "dataSource");
+
+        assertThat(dataSource.getMaximumPoolSize())
+                .isEqualTo(ProductionPersistenceConfig.poolSize(Runtime.getRuntime().availableProcessors(), 0));
+    }
+
+    @Test
+    void givenNoPoolSizeAndBulkheads_whenPrimaryPoolInitialized_thenSizedToCoverBulkheads() {
+        HikariDataSource dataSource = new HikariDataSource();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("customer.throttling.endpoints.scan.max-concurrent", "60")
+                .withProperty("customer.throttling.endpoints.write.max-concurrent", "40");
+
+        ProductionPersistenceConfig.hikariPoolSizer(environment)
+                .postProcessAfterInitialization(dataSource, "dataSource");
+
+        assertThat(dataSource.getMaximumPoolSize())
+                .isEqualTo(ProductionPersistenceConfig.poolSize(Runtime.getRuntime().availableProcessors(), 100));
+    }
+
+    @Test
+    void givenConfiguredPoolSize_whenPrimaryPoolInitialized_thenSizeKept() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(CONFIGURED_POOL_SIZE);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty(ProductionPersistenceConfig.MAXIMUM_POOL_SIZE_PROPERTY, "20");
+
+        ProductionPersistenceConfig.hikariPoolSizer(environment)
+                .postProcessAfterInitialization(dataSource, "primaryDataSource");
+
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(CONFIGURED_POOL_SIZE);
+    }
+
+    @Test
+    void givenNoPoolSize_whenOtherPoolInitialized_thenSizeKept() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(CONFIGURED_POOL_SIZE);
+
+        ProductionPersistenceConfig.hikariPoolSizer(new MockEnvironment())
+                .postProcessAfterInitialization(dataSource, "reportingDataSource");
+
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(CONFIGURED_POOL_SIZE);
+    }
+
+    @Test
+    void givenCpuCount_whenPoolSized_thenTwoConnectionsPerCorePlusOne() {
+        assertThat(ProductionPersistenceConfig.poolSize(8, 0)).isEqualTo(17);
+    }
+
+    @Test
+    void givenBulkheadBudgetAboveCpuRule_whenPoolSized_thenBudgetCovered() {
+        assertThat(ProductionPersistenceConfig.poolSize(8, 20)).isEqualTo(20);
+    }
+
+    private MockEnvironment prodEnvironment() throws IOException {
+        MockEnvironment environment = new MockEnvironment();
+        environment.getPropertySources().addLast(
+                new ResourcePropertySource(new ClassPathResource("application-prod.properties")));
+        environment.setProperty("spring.datasource.url", "jdbc:mysql://localhost:3306/customers_db");
+        return environment;
+    }
+
+    static class TestResources {
+        static final int CONFIGURED_POOL_SIZE = 20;
+    }
+}
@@ -0,0 +1,194 @@
+package com.test.customercrud.config;
+
+import com.test.customercrud.model.Customer;
+import com.test.customercrud.repository.CustomerRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import static com.test.customercrud.config.ProductionProfileIntegrationTest.TestResources.buildCustomer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:customers_prod;MODE=MySQL;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+        // No bulkhead budget, so the pool size comes from the CPU count alone.
+        "customer.throttling.enabled=false"
+})
+@ActiveProfiles({"test", "prod"})
+@Import(ProductionProfileIntegrationTest.StatementRecorderConfig.class)
+class ProductionProfileIntegrationTest {
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.update("DELETE FROM customers");
+    }
+
+    @Test
+    void givenProdProfile_whenStarted_thenPoolSizedFromCpuCount() throws SQLException {
+        int expected = ProductionPersistenceConfig.poolSize(Runtime.getRuntime().availableProcessors(), 0);
+
+        assertThat(dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()).isEqualTo(expected);
+    }
+
+    @Test
+    void givenManyDirtyCustomers_whenFlushed_thenUpdatesSentAsOneJdbcBatch() {
+        customerRepository.insertAll(IntStream.range(0, 10).mapToObj(TestResources::buildCustomer).toList());
+        statementRecorder.clear();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                customerRepository.findAll().forEach(customer -> customer.setFullName("Jane Doe")));
+
+        String updateSql = statementRecorder.prepared().stream()
+                .filter(sql -> sql.startsWith("update customers"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(statementRecorder.prepared()).filteredOn(updateSql::equals).hasSize(1);
+        assertThat(statementRecorder.batchedRows(updateSql)).isEqualTo(10);
+        assertThat(statementRecorder.executedBatches(updateSql)).isEqualTo(1);
+    }
+
+    @Test
+    void givenInListsOfDifferentSizes_whenQueried_thenStatementTextReused() {
+        List<Customer> customers = IntStream.range(0, 4).mapToObj(TestResources::buildCustomer).toList();
+        customerRepository.insertAll(customers);
+        List<Long> ids = customers.stream().map(Customer::getId).toList();
+        statementRecorder.clear();
+
+        customerRepository.findResponsesByIdIn(ids.subList(0, 3));
+        customerRepository.findResponsesByIdIn(ids);
+
+        assertThat(statementRecorder.prepared()).hasSize(2).containsOnly(statementRecorder.prepared().get(0));
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+        @Bean
+        StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof HikariDataSource dataSource
+                            ? new RecordingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    static class StatementRecorder {
+        private static final List<String> PREPARED = new CopyOnWriteArrayList<>();
+        private static final Map<String, AtomicInteger> BATCHED_ROWS = new ConcurrentHashMap<>();
+        private static final Map<String, AtomicInteger> EXECUTED_BATCHES = new ConcurrentHashMap<>();
+
+        List<String> prepared() {
+            return List.copyOf(PREPARED);
+        }
+
+        int batchedRows(String sql) {
+            return BATCHED_ROWS.getOrDefault(sql, new AtomicInteger()).get();
+        }
+
+        int executedBatches(String sql) {
+            return EXECUTED_BATCHES.getOrDefault(sql, new AtomicInteger()).get();
+        }
+
+        void clear() {
+            PREPARED.clear();
+            BATCHED_ROWS.clear();
+            EXECUTED_BATCHES.clear();
+        }
+    }
+
+    static class RecordingDataSource extends DelegatingDataSource {
+        RecordingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return recording(super.getConnection());
+        }
+
+        private Connection recording(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) -> {
+                if (method.equals("prepareStatement")) {
+                    String sql = (String) args[0];
+                    StatementRecorder.PREPARED.add(sql);
+                    return proxy(PreparedStatement.class, result, (statementMethod, statementArgs, statementResult) -> {
+                        if (statementMethod.equals("addBatch")) {
+                            StatementRecorder.BATCHED_ROWS.computeIfAbsent(sql, key -> new AtomicInteger())
+                                    .incrementAndGet();
+                        } else if (statementMethod.equals("executeBatch")) {
+                            StatementRecorder.EXECUTED_BATCHES.computeIfAbsent(sql, key -> new AtomicInteger())
+                                    .incrementAndGet();
+                        }
+                        return statementResult;
+                    });
+                }
+                return result;
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, Object target, Interceptor interceptor) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        try {
+                            return interceptor.intercept(method.getName(), args, method.invoke(target, args));
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }));
+        }
+
+        private interface Interceptor {
+            Object intercept(String method, Object[] args, Object result);
+        }
+    }
+
+    static class TestResources {
+        static Customer buildCustomer(int index) {
+            return Customer.builder()
+                    .fullName("John Doe")
+                    .email("john.doe.%d@example.com".formatted(index))
+                    .phone("+380123321123")
+                    .build();
+        }
+    }
+}
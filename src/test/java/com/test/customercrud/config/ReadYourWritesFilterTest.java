@@ -0,0 +1,62 @@
+package com.test.customercrud.config;
+
+import jakarta.servlet.http.Cookie;
+import java.util.function.LongConsumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import static com.test.customercrud.config.ReadYourWritesFilterTest.TestResources.PRIMARY_UNTIL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReadYourWritesFilterTest {
+    @Mock
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Test
+    void givenCookie_whenRequest_thenSessionOpenedWithDeadlineAndClosed() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customers/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(PRIMARY_UNTIL)));
+
+        new ReadYourWritesFilter(routingDataSource).doFilter(request, new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        InOrder order = inOrder(routingDataSource);
+        order.verify(routingDataSource).openSession(eq(PRIMARY_UNTIL), any());
+        order.verify(routingDataSource).closeSession();
+    }
+
+    @Test
+    void givenWriteCommitted_whenRequest_thenDeadlineCookieSet() throws Exception {
+        when(routingDataSource.getReadYourWritesWindowMillis()).thenReturn(2000L);
+        ArgumentCaptor<LongConsumer> onWrite = ArgumentCaptor.forClass(LongConsumer.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ReadYourWritesFilter(routingDataSource).doFilter(new MockHttpServletRequest("POST", "/api/customers"),
+                response, (req, res) -> {
+                    verify(routingDataSource).openSession(anyLong(), onWrite.capture());
+                    onWrite.getValue().accept(PRIMARY_UNTIL);
+                });
+
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getValue()).isEqualTo(Long.toString(PRIMARY_UNTIL));
+        assertThat(cookie.getMaxAge()).isEqualTo(2);
+    }
+
+    static class TestResources {
+        static final long PRIMARY_UNTIL = 1718000002000L;
+    }
+}
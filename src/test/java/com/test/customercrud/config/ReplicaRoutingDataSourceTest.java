@@ -0,0 +1,187 @@
+package com.test.customercrud.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import static com.test.customercrud.config.ReplicaRoutingDataSourceTest.TestResources.database;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+    private final DataSource primary = database("routing_primary");
+    private final DataSource replica = database("routing_replica");
+    private final DataSource otherReplica = database("routing_other_replica");
+
+    @Test
+    void givenReadOnlyTransaction_whenQuery_thenReplicaUsed() {
+        Routing routing = new Routing(List.of(replica), Duration.ZERO);
+
+        assertThat(routing.read()).isEqualTo("routing_replica");
+        assertThat(routing.write()).isEqualTo("routing_primary");
+    }
+
+    @Test
+    void givenSeveralReplicas_whenReadRepeatedly_thenReplicasUsedRoundRobin() {
+        Routing routing = new Routing(List.of(replica, otherReplica), Duration.ZERO);
+
+        assertThat(List.of(routing.read(), routing.read(), routing.read()))
+                .containsExactly("routing_replica", "routing_other_replica", "routing_replica");
+    }
+
+    @Test
+    void givenWriteInSession_whenReadWithinWindow_thenPrimaryUsedAndDeadlineReported() {
+        Routing routing = new Routing(List.of(replica), Duration.ofMinutes(1));
+        AtomicLong reported = new AtomicLong();
+        routing.routingDataSource.openSession(0, reported::set);
+        try {
+            assertThat(routing.read()).isEqualTo("routing_replica");
+            routing.write();
+            assertThat(routing.read()).isEqualTo("routing_primary");
+            assertThat(reported.get()).isGreaterThan(System.currentTimeMillis());
+        } finally {
+            routing.routingDataSource.closeSession();
+        }
+    }
+
+    @Test
+    void givenWriteInOtherSession_whenRead_thenReplicaUsed() throws Exception {
+        Routing routing = new Routing(List.of(replica), Duration.ofMinutes(1));
+        CompletableFuture.runAsync(() -> {
+            routing.routingDataSource.openSession(0, primaryUntil -> {
+            });
+            try {
+                routing.write();
+            } finally {
+                routing.routingDataSource.closeSession();
+            }
+        }).get();
+
+        assertThat(routing.read()).isEqualTo("routing_replica");
+    }
+
+    @Test
+    void givenSessionPinnedByEarlierWrite_whenRead_thenPrimaryUsed() {
+        Routing routing = new Routing(List.of(replica), Duration.ofMinutes(1));
+        routing.routingDataSource.openSession(System.currentTimeMillis() + 30_000, primaryUntil -> {
+        });
+        try {
+            assertThat(routing.read()).isEqualTo("routing_primary");
+        } finally {
+            routing.routingDataSource.closeSession();
+        }
+    }
+
+    @Test
+    void givenPrimaryRequired_whenRead_thenPrimaryUsed() {
+        Routing routing = new Routing(List.of(replica), Duration.ZERO);
+
+        assertThat(ReadRouting.onPrimary(routing::read)).isEqualTo("routing_primary");
+        assertThat(routing.read()).isEqualTo("routing_replica");
+    }
+
+    @Test
+    void givenUnreachableReplica_whenRead_thenPrimaryUsedAndReplicaMarkedDown() {
+        DataSource unreachable = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable", "sa", "");
+        Routing routing = new Routing(List.of(unreachable, replica), Duration.ZERO);
+
+        assertThat(routing.read()).isEqualTo("routing_primary");
+        assertThat(List.of(routing.read(), routing.read())).containsOnly("routing_replica");
+    }
+
+    @Test
+    void givenReplicaRecovered_whenHealthChecked_thenReplicaUsedAgain() {
+        AtomicBoolean down = new AtomicBoolean(true);
+        DataSource flaky = new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (down.get()) {
+                    throw new SQLNonTransientConnectionException("Replica is down", "08001");
+                }
+                return super.getConnection();
+            }
+        };
+        Routing routing = new Routing(List.of(flaky), Duration.ZERO);
+        assertThat(routing.read()).isEqualTo("routing_primary");
+
+        down.set(false);
+        assertThat(routing.read()).isEqualTo("routing_primary");
+        routing.routingDataSource.checkReplicas();
+
+        assertThat(routing.read()).isEqualTo("routing_replica");
+    }
+
+    @Test
+    void givenReplicaPoolTimeout_whenRead_thenPrimaryUsedAndReplicaKept() {
+        AtomicBoolean exhausted = new AtomicBoolean(true);
+        DataSource busy = new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (exhausted.getAndSet(false)) {
+                    throw new SQLTransientConnectionException(
+                            "replica-0 - Connection is not available, request timed out after 250ms.");
+                }
+                return super.getConnection();
+            }
+        };
+        Routing routing = new Routing(List.of(busy), Duration.ZERO);
+
+        assertThat(routing.read()).isEqualTo("routing_primary");
+        assertThat(routing.read()).isEqualTo("routing_replica");
+    }
+
+    private class Routing {
+        private final ReplicaRoutingDataSource routingDataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        Routing(List<DataSource> replicas, Duration readYourWritesWindow) {
+            routingDataSource = new ReplicaRoutingDataSource(primary, replicas, readYourWritesWindow,
+                    Duration.ofSeconds(1));
+            routingDataSource.afterPropertiesSet();
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        String read() {
+            return readOnly.execute(status -> databaseName());
+        }
+
+        String write() {
+            return readWrite.execute(status -> databaseName());
+        }
+
+        private String databaseName() {
+            return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+        }
+    }
+
+    static class TestResources {
+        static DataSource database(String name) {
+            DataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(50))");
+            jdbcTemplate.update("DELETE FROM node");
+            jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+            return dataSource;
+        }
+    }
+}
@@ -1,15 +1,45 @@
 package com.test.customercrud.controller;
 
+import com.test.customercrud.config.IdempotencyConfig;
+import com.test.customercrud.dto.CustomerBatchItemResultDTO;
+import com.test.customercrud.dto.CustomerBatchItemStatus;
+import com.test.customercrud.dto.CustomerBulkItemResultDTO;
+import com.test.customercrud.dto.CustomerBulkItemStatus;
+import com.test.customercrud.dto.CustomerBulkPatchRequestDTO;
+import com.test.customercrud.dto.CustomerChangeDTO;
+import com.test.customercrud.dto.CustomerChangesResponseDTO;
 import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerLookupResponseDTO;
+import com.test.customercrud.dto.CustomerPageResponseDTO;
 import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerSearchMatch;
+import com.test.customercrud.dto.CustomerSearchRequestDTO;
+import com.test.customercrud.dto.CustomerSliceResponseDTO;
 import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import com.test.customercrud.dto.CustomerUpsertResultDTO;
+import com.test.customercrud.dto.CustomerUpsertStatus;
 import com.test.customercrud.exception.CustomerNotFoundException;
+import com.test.customercrud.exception.DuplicateEmailException;
+import com.test.customercrud.exception.InvalidBulkRequestException;
+import com.test.customercrud.exception.InvalidCursorException;
+import com.test.customercrud.exception.InvalidSearchRequestException;
+import com.test.customercrud.exception.PreconditionFailedException;
 import com.test.customercrud.mapper.CustomerMapperImpl;
+import com.test.customercrud.model.Customer;
+import com.test.customercrud.model.CustomerEventType;
+import com.test.customercrud.service.CustomerEventService;
 import com.test.customercrud.service.CustomerService;
+import com.test.customercrud.service.Impl.IdempotencyServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.nio.file.Files;
+import java.util.Date;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,32 +48,53 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import static com.test.customercrud.controller.CustomerControllerTest.TestResources.CURSOR;
 import static com.test.customercrud.controller.CustomerControllerTest.TestResources.CUSTOMER_ID;
+import static com.test.customercrud.controller.CustomerControllerTest.TestResources.EMAIL;
+import static com.test.customercrud.controller.CustomerControllerTest.TestResources.E_TAG;
 import static com.test.customercrud.controller.CustomerControllerTest.TestResources.INVALID_CUSTOMER_ID;
 import static com.test.customercrud.controller.CustomerControllerTest.TestResources.NEW_PHONE;
 import static com.test.customercrud.controller.CustomerControllerTest.TestResources.PHONE;
+import static com.test.customercrud.controller.CustomerControllerTest.TestResources.UPDATED;
+import static com.test.customercrud.controller.CustomerControllerTest.TestResources.VERSION;
 import static com.test.customercrud.controller.CustomerControllerTest.TestResources.buildCustomerCreateRequestDTO;
 import static com.test.customercrud.controller.CustomerControllerTest.TestResources.buildCustomerResponseDTO;
 import static com.test.customercrud.controller.CustomerControllerTest.TestResources.buildCustomerUpdateRequestDTO;
+import static com.test.customercrud.controller.CustomerControllerTest.TestResources.buildStoredCustomerResponseDTO;
 import static com.test.customercrud.controller.CustomerControllerTest.TestResources.buildUpdatedCustomerResponseDTO;
 import static com.test.customercrud.controller.CustomerControllerTest.TestResources.getFileContent;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CustomerController.class)
+@Import({SimpleMeterRegistry.class, IdempotencyConfig.class, IdempotencyServiceImpl.class})
 @ExtendWith(SpringExtension.class)
 class CustomerControllerTest {
     @Autowired
@@ -52,6 +103,10 @@ class CustomerControllerTest {
     private CustomerMapperImpl mapper;
     @MockBean
     private CustomerService customerService;
+    @MockBean
+    private CustomerEventService customerEventService;
+    @Autowired
+    private MeterRegistry meterRegistry;
     @BeforeEach
     void beforeEach() {
         TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
@@ -71,6 +126,55 @@ class CustomerControllerTest {
         verify(customerService).create(buildCustomerCreateRequestDTO(PHONE));
     }
 
+    @Test
+    void givenRepeatedIdempotencyKey_whenCreateCustomer_shouldReplayStoredResponse() throws Exception {
+        when(customerService.create(buildCustomerCreateRequestDTO(PHONE)))
+                .thenReturn(buildCustomerResponseDTO(PHONE));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/customers")
+                            .header("Idempotency-Key", "create-replay")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(getFileContent("customer/create-request.json")))
+                    .andExpect(status().isCreated())
+                    .andExpect(content().json(getFileContent("customer/created-response.json")));
+        }
+
+        verify(customerService, times(1)).create(buildCustomerCreateRequestDTO(PHONE));
+    }
+
+    @Test
+    void givenIdempotencyKeyReusedForOtherRequest_whenUpdateCustomer_shouldReturnUnprocessableEntity()
+            throws Exception {
+        when(customerService.update(eq(CUSTOMER_ID), any(), any())).thenReturn(buildCustomerResponseDTO(NEW_PHONE));
+        mockMvc.perform(put("/api/customers/{id}", CUSTOMER_ID)
+                        .header("Idempotency-Key", "update-reused")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(getFileContent("customer/update-request.json")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/customers/{id}", INVALID_CUSTOMER_ID)
+                        .header("Idempotency-Key", "update-reused")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(getFileContent("customer/update-request.json")))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(customerService, times(1)).update(any(), any(), any());
+    }
+
+    @Test
+    void givenExistingEmail_whenCreateCustomer_shouldReturnConflict() throws Exception {
+        doThrow(new DuplicateEmailException("Customer with email %s already exists".formatted(EMAIL)))
+                .when(customerService).create(buildCustomerCreateRequestDTO(PHONE));
+
+        mockMvc.perform(post("/api/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(getFileContent("customer/create-request.json")))
+                .andExpect(status().isConflict())
+                .andExpect(content().json("{\"message\":\"Customer with email %s already exists\"}"
+                        .formatted(EMAIL)));
+    }
+
     @Test
     void givenDuplicateEmail_whenCreateCustomer_shouldReturnInternalServerError() throws Exception {
         doThrow(new RuntimeException()).when(customerService).create(buildCustomerCreateRequestDTO(PHONE));
@@ -84,6 +188,39 @@ class CustomerControllerTest {
         verify(customerService).create(buildCustomerCreateRequestDTO(PHONE));
     }
 
+    @Test
+    void givenCustomerList_whenCreateCustomers_shouldReturnPerItemResults() throws Exception {
+        when(customerService.createAll(List.of(buildCustomerCreateRequestDTO(PHONE),
+                buildCustomerCreateRequestDTO(null))))
+                .thenReturn(List.of(
+                        CustomerBatchItemResultDTO.builder()
+                                .index(0)
+                                .status(CustomerBatchItemStatus.CREATED)
+                                .customer(buildCustomerResponseDTO(PHONE))
+                                .build(),
+                        CustomerBatchItemResultDTO.builder()
+                                .index(1)
+                                .status(CustomerBatchItemStatus.FAILED)
+                                .error("Customer with email john.doe@example.com already exists")
+                                .build()));
+
+        mockMvc.perform(post("/api/customers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(getFileContent("customer/batch-create-request.json")))
+                .andExpect(status().isOk())
+                .andExpect(content().json(getFileContent("customer/batch-create-response.json")));
+    }
+
+    @Test
+    void givenEmptyCustomerList_whenCreateCustomers_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/customers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(customerService, never()).createAll(List.of());
+    }
+
     @Test
     void givenShortFullName_whenCreateCustomer_shouldReturnBadRequest() throws Exception {
         mockMvc.perform(post("/api/customers")
@@ -124,28 +261,202 @@ class CustomerControllerTest {
 
     @Test
     void givenCustomersExist_whenGetAllCustomers_shouldReturnCustomerList() throws Exception {
-        when(customerService.getAll()).thenReturn(List.of(buildCustomerResponseDTO(PHONE)));
+        when(customerService.getAll(null, 50)).thenReturn(CustomerPageResponseDTO.builder()
+                .items(List.of(buildCustomerResponseDTO(PHONE)))
+                .nextCursor(CURSOR)
+                .build());
 
         mockMvc.perform(get("/api/customers")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(content().json(getFileContent("customer/all-customers-response.json")));
 
-        verify(customerService).getAll();
+        verify(customerService).getAll(null, 50);
+    }
+
+    @Test
+    void givenSince_whenGetChanges_shouldReturnChangesAfterIt() throws Exception {
+        when(customerEventService.getChanges(5, 100)).thenReturn(CustomerChangesResponseDTO.builder()
+                .items(List.of(CustomerChangeDTO.builder()
+                        .id(6L)
+                        .sequence(6L)
+                        .customerId(CUSTOMER_ID)
+                        .type(CustomerEventType.DELETED)
+                        .created(UPDATED)
+                        .build()))
+                .nextSince(6)
+                .build());
+
+        mockMvc.perform(get("/api/customers/changes").param("since", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {"items":[{"id":6,"sequence":6,"customerId":1,"type":"DELETED",
+                                   "created":1718000000000,"customer":null}],
+                         "nextSince":6,"hasMore":false}"""));
+
+        verify(customerEventService).getChanges(5, 100);
+    }
+
+    @Test
+    void givenCursorAndLimit_whenGetAllCustomers_shouldPassThemToService() throws Exception {
+        when(customerService.getAll(CURSOR, 10)).thenReturn(CustomerPageResponseDTO.builder()
+                .items(List.of())
+                .build());
+
+        mockMvc.perform(get("/api/customers")
+                        .param("cursor", CURSOR)
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"items\":[],\"nextCursor\":null}"));
+
+        verify(customerService).getAll(CURSOR, 10);
+    }
+
+    @Test
+    void givenInvalidCursor_whenGetAllCustomers_shouldReturnBadRequest() throws Exception {
+        when(customerService.getAll("broken", 50))
+                .thenThrow(new InvalidCursorException("Invalid cursor: broken"));
+
+        mockMvc.perform(get("/api/customers")
+                        .param("cursor", "broken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json("{\"message\":\"Invalid cursor: broken\"}"));
+    }
+
+    @Test
+    void givenSearchParams_whenSearchCustomers_shouldReturnSlice() throws Exception {
+        CustomerSearchRequestDTO request = CustomerSearchRequestDTO.builder()
+                .phone("+380")
+                .match(CustomerSearchMatch.PREFIX)
+                .page(0)
+                .size(20)
+                .build();
+        when(customerService.search(request)).thenReturn(CustomerSliceResponseDTO.builder()
+                .items(List.of(buildCustomerResponseDTO(PHONE)))
+                .page(0)
+                .size(20)
+                .hasNext(true)
+                .build());
+
+        mockMvc.perform(get("/api/customers/search")
+                        .param("phone", "+380"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(getFileContent("customer/search-response.json")));
+
+        verify(customerService).search(request);
+    }
+
+    @Test
+    void givenNoFilter_whenSearchCustomers_shouldReturnBadRequest() throws Exception {
+        when(customerService.search(any(CustomerSearchRequestDTO.class)))
+                .thenThrow(new InvalidSearchRequestException(
+                        "Exactly one of fullName, email or phone must be provided"));
+
+        mockMvc.perform(get("/api/customers/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json(
+                        "{\"message\":\"Exactly one of fullName, email or phone must be provided\"}"));
+    }
+
+    @Test
+    void givenUnknownMatch_whenSearchCustomers_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/customers/search")
+                        .param("phone", "+380")
+                        .param("match", "FUZZY"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json("{\"message\":\"match: invalid value 'FUZZY'\"}"));
+
+        verify(customerService, never()).search(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenCustomersExist_whenExportCustomers_shouldStreamNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<CustomerResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(buildCustomerResponseDTO(PHONE));
+            consumer.accept(buildUpdatedCustomerResponseDTO(NEW_PHONE));
+            return null;
+        }).when(customerService).exportAll(any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/customers/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(getFileContent("customer/export-response.ndjson")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenStreamRequested_whenGetAllCustomers_shouldStreamJsonArray() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<CustomerResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(buildCustomerResponseDTO(PHONE));
+            consumer.accept(buildUpdatedCustomerResponseDTO(NEW_PHONE));
+            return null;
+        }).when(customerService).exportAll(any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/customers").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("""
+                        [{"id":1,"fullName":"John Doe","email":"john.doe@example.com","phone":"+380123321123"},
+                         {"id":1,"fullName":"Jane Doe","email":"john.doe@example.com","phone":"+380987654321"}]""",
+                        true));
+        verify(customerService, never()).getAll(any(), anyInt());
     }
 
     @Test
     void givenValidCustomerId_whenGetCustomerById_shouldReturnCustomer() throws Exception {
-        when(customerService.get(CUSTOMER_ID)).thenReturn(buildCustomerResponseDTO(PHONE));
+        when(customerService.get(CUSTOMER_ID)).thenReturn(buildStoredCustomerResponseDTO());
 
         mockMvc.perform(get("/api/customers/" + CUSTOMER_ID)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, E_TAG))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, UPDATED))
                 .andExpect(content().json(getFileContent("customer/created-response.json")));
 
         verify(customerService).get(CUSTOMER_ID);
     }
 
+    @Test
+    void givenMatchingETag_whenGetCustomerById_shouldReturnNotModified() throws Exception {
+        when(customerService.get(CUSTOMER_ID)).thenReturn(buildStoredCustomerResponseDTO());
+
+        mockMvc.perform(get("/api/customers/" + CUSTOMER_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, E_TAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, E_TAG))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void givenStaleETag_whenGetCustomerById_shouldReturnCustomer() throws Exception {
+        when(customerService.get(CUSTOMER_ID)).thenReturn(buildStoredCustomerResponseDTO());
+
+        mockMvc.perform(get("/api/customers/" + CUSTOMER_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, E_TAG));
+    }
+
+    @Test
+    void givenUnmodifiedSince_whenGetCustomerById_shouldReturnNotModified() throws Exception {
+        when(customerService.get(CUSTOMER_ID)).thenReturn(buildStoredCustomerResponseDTO());
+
+        mockMvc.perform(get("/api/customers/" + CUSTOMER_ID)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, new Date(UPDATED)))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void givenInvalidCustomerId_whenGetCustomerById_shouldReturnNotFound() throws Exception {
         when(customerService.get(INVALID_CUSTOMER_ID))
@@ -160,12 +471,16 @@ class CustomerControllerTest {
                 .isInstanceOf(CustomerNotFoundException.class)
                 .hasMessage("Customer not found with id: %s".formatted(INVALID_CUSTOMER_ID));
 
-        verify(customerService).get(INVALID_CUSTOMER_ID);
+        assertThat(meterRegistry.get("customer.errors")
+                .tag("type", "CustomerNotFoundException")
+                .tag("status", "404")
+                .counter()
+                .count()).isPositive();
     }
 
     @Test
     void givenValidCustomerId_whenUpdateCustomer_shouldReturnUpdatedCustomer() throws Exception {
-        when(customerService.update(CUSTOMER_ID, buildCustomerUpdateRequestDTO(NEW_PHONE)))
+        when(customerService.update(CUSTOMER_ID, buildCustomerUpdateRequestDTO(NEW_PHONE), null))
                 .thenReturn(buildUpdatedCustomerResponseDTO(NEW_PHONE));
 
         mockMvc.perform(put("/api/customers/" + CUSTOMER_ID)
@@ -174,7 +489,57 @@ class CustomerControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json(getFileContent("customer/updated-response.json")));
 
-        verify(customerService).update(CUSTOMER_ID, buildCustomerUpdateRequestDTO(NEW_PHONE));
+        verify(customerService).update(CUSTOMER_ID, buildCustomerUpdateRequestDTO(NEW_PHONE), null);
+    }
+
+    @Test
+    void givenIfMatch_whenUpdateCustomer_shouldPassExpectedUpdatedToService() throws Exception {
+        when(customerService.update(CUSTOMER_ID, buildCustomerUpdateRequestDTO(NEW_PHONE), VERSION))
+                .thenReturn(buildUpdatedCustomerResponseDTO(NEW_PHONE));
+
+        mockMvc.perform(put("/api/customers/" + CUSTOMER_ID)
+                        .header(HttpHeaders.IF_MATCH, E_TAG)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(getFileContent("customer/update-request.json")))
+                .andExpect(status().isOk());
+
+        verify(customerService).update(CUSTOMER_ID, buildCustomerUpdateRequestDTO(NEW_PHONE), VERSION);
+    }
+
+    @Test
+    void givenStaleIfMatch_whenUpdateCustomer_shouldReturnPreconditionFailed() throws Exception {
+        when(customerService.update(CUSTOMER_ID, buildCustomerUpdateRequestDTO(NEW_PHONE), VERSION))
+                .thenThrow(new PreconditionFailedException("Customer 1 has been modified"));
+
+        mockMvc.perform(put("/api/customers/" + CUSTOMER_ID)
+                        .header(HttpHeaders.IF_MATCH, E_TAG)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(getFileContent("customer/update-request.json")))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(content().json("{\"message\":\"Customer 1 has been modified\"}"));
+    }
+
+    @Test
+    void givenIfMatchForOtherCustomer_whenUpdateCustomer_shouldReturnPreconditionFailed() throws Exception {
+        mockMvc.perform(put("/api/customers/" + CUSTOMER_ID)
+                        .header(HttpHeaders.IF_MATCH, "\"2-1718000000000\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(getFileContent("customer/update-request.json")))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(customerService, never()).update(any(), any(), any());
+    }
+
+    @Test
+    void givenConcurrentUpdate_whenUpdateCustomer_shouldReturnConflict() throws Exception {
+        when(customerService.update(CUSTOMER_ID, buildCustomerUpdateRequestDTO(NEW_PHONE), null))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Customer.class, CUSTOMER_ID));
+
+        mockMvc.perform(put("/api/customers/" + CUSTOMER_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(getFileContent("customer/update-request.json")))
+                .andExpect(status().isConflict())
+                .andExpect(content().json("{\"message\":\"Customer was modified concurrently\"}"));
     }
 
     @Test
@@ -186,6 +551,170 @@ class CustomerControllerTest {
         verify(customerService).delete(CUSTOMER_ID);
     }
 
+    @Test
+    void givenIds_whenDeleteCustomers_shouldReturnOutcomePerId() throws Exception {
+        when(customerService.deleteAll(List.of(CUSTOMER_ID, INVALID_CUSTOMER_ID))).thenReturn(List.of(
+                CustomerBulkItemResultDTO.builder().id(CUSTOMER_ID).status(CustomerBulkItemStatus.DELETED).build(),
+                CustomerBulkItemResultDTO.builder().id(INVALID_CUSTOMER_ID)
+                        .status(CustomerBulkItemStatus.NOT_FOUND).build()));
+
+        mockMvc.perform(delete("/api/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1,99]}"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        [{"id":1,"status":"DELETED"},{"id":99,"status":"NOT_FOUND"}]"""));
+    }
+
+    @Test
+    void givenFoundAndMissingIds_whenLookupCustomers_shouldReturnBoth() throws Exception {
+        when(customerService.lookup(List.of(CUSTOMER_ID, INVALID_CUSTOMER_ID))).thenReturn(
+                CustomerLookupResponseDTO.builder()
+                        .customers(List.of(buildCustomerResponseDTO(PHONE)))
+                        .missingIds(List.of(INVALID_CUSTOMER_ID))
+                        .build());
+
+        mockMvc.perform(post("/api/customers/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1,99]}"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {"customers":[{"id":1,"fullName":"John Doe","email":"john.doe@example.com",
+                                       "phone":"+380123321123"}],
+                         "missingIds":[99]}""", true));
+    }
+
+    @Test
+    void givenTooManyIds_whenLookupCustomers_shouldReturnBadRequest() throws Exception {
+        String ids = LongStream.rangeClosed(1, 1001)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(post("/api/customers/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[" + ids + "]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(customerService, never()).lookup(any());
+    }
+
+    @Test
+    void givenNewEmail_whenUpsertCustomer_shouldReturnCreated() throws Exception {
+        when(customerService.upsert(buildCustomerCreateRequestDTO(PHONE))).thenReturn(CustomerUpsertResultDTO.builder()
+                .status(CustomerUpsertStatus.CREATED)
+                .customer(buildCustomerResponseDTO(PHONE))
+                .build());
+
+        mockMvc.perform(put("/api/customers/by-email/{email}", EMAIL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\":\"John Doe\",\"phone\":\"+380123321123\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(content().json(getFileContent("customer/created-response.json")));
+    }
+
+    @Test
+    void givenExistingEmail_whenUpsertCustomer_shouldReturnOk() throws Exception {
+        when(customerService.upsert(any())).thenReturn(CustomerUpsertResultDTO.builder()
+                .status(CustomerUpsertStatus.UPDATED)
+                .customer(buildUpdatedCustomerResponseDTO(PHONE))
+                .build());
+
+        mockMvc.perform(put("/api/customers/by-email/{email}", EMAIL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\":\"Jane Doe\"}"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"id\":1,\"fullName\":\"Jane Doe\"}"));
+    }
+
+    @Test
+    void givenInvalidEmail_whenUpsertCustomer_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(put("/api/customers/by-email/{email}", "not-an-email")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\":\"John Doe\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(customerService, never()).upsert(any());
+    }
+
+    @Test
+    void givenCustomers_whenUpsertCustomers_shouldReturnStatusPerCustomer() throws Exception {
+        when(customerService.upsertAll(List.of(buildCustomerCreateRequestDTO(PHONE)))).thenReturn(List.of(
+                CustomerUpsertResultDTO.builder()
+                        .index(0)
+                        .status(CustomerUpsertStatus.UPDATED)
+                        .customer(buildCustomerResponseDTO(PHONE))
+                        .build()));
+
+        mockMvc.perform(put("/api/customers/by-email")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + getFileContent("customer/create-request.json") + "]"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        [{"index":0,"status":"UPDATED","customer":{"id":1,"email":"john.doe@example.com"}}]"""));
+    }
+
+    @Test
+    void givenDuplicateEmail_whenCreateCustomerViolatesConstraint_shouldReturnConflict() throws Exception {
+        doThrow(new DataIntegrityViolationException("Duplicate entry"))
+                .when(customerService).create(buildCustomerCreateRequestDTO(PHONE));
+
+        mockMvc.perform(post("/api/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(getFileContent("customer/create-request.json")))
+                .andExpect(status().isConflict())
+                .andExpect(content().json("{\"message\":\"Customer conflicts with an existing customer\"}"));
+    }
+
+    @Test
+    void givenEmptyIds_whenDeleteCustomers_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(delete("/api/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(customerService, never()).deleteAll(any());
+    }
+
+    @Test
+    void givenIdsAndFields_whenPatchCustomers_shouldReturnOutcomePerId() throws Exception {
+        CustomerBulkPatchRequestDTO request = CustomerBulkPatchRequestDTO.builder()
+                .ids(List.of(CUSTOMER_ID))
+                .phone(NEW_PHONE)
+                .build();
+        when(customerService.patchAll(request)).thenReturn(List.of(
+                CustomerBulkItemResultDTO.builder().id(CUSTOMER_ID).status(CustomerBulkItemStatus.UPDATED).build()));
+
+        mockMvc.perform(patch("/api/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1],\"phone\":\"+380987654321\"}"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"id\":1,\"status\":\"UPDATED\"}]"));
+    }
+
+    @Test
+    void givenNoFields_whenPatchCustomers_shouldReturnBadRequest() throws Exception {
+        when(customerService.patchAll(any())).thenThrow(
+                new InvalidBulkRequestException("At least one of fullName or phone must be provided"));
+
+        mockMvc.perform(patch("/api/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json(
+                        "{\"message\":\"At least one of fullName or phone must be provided\"}"));
+    }
+
+    @Test
+    void givenBlankFullName_whenPatchCustomers_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(patch("/api/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1],\"fullName\":\"   \"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json("{\"message\":\"fullName: Full name must not be blank\"}"));
+
+        verify(customerService, never()).patchAll(any());
+    }
+
     @Test
     void givenInvalidCustomerId_whenDeleteCustomer_shouldReturnNotFound() throws Exception {
         doThrow(new CustomerNotFoundException(
@@ -207,6 +736,10 @@ class CustomerControllerTest {
     static class TestResources {
         static final Long CUSTOMER_ID = 1L;
         static final Long INVALID_CUSTOMER_ID = 99L;
+        static final long UPDATED = 1718000000000L;
+        static final long VERSION = 3L;
+        static final String E_TAG = "\"1-3\"";
+        static final String CURSOR = "aWQ6MQ";
         static final String FULL_NAME = "John Doe";
         static final String EMAIL = "john.doe@example.com";
         static final String PHONE = "+380123321123";
@@ -230,6 +763,13 @@ class CustomerControllerTest {
                     .build();
         }
 
+        static CustomerResponseDTO buildStoredCustomerResponseDTO() {
+            CustomerResponseDTO customer = buildCustomerResponseDTO(PHONE);
+            customer.setVersion(VERSION);
+            customer.setUpdated(UPDATED);
+            return customer;
+        }
+
         static CustomerResponseDTO buildUpdatedCustomerResponseDTO(String phone) {
             return CustomerResponseDTO.builder()
                     .id(CUSTOMER_ID)
@@ -0,0 +1,161 @@
+package com.test.customercrud.controller;
+
+import com.test.customercrud.config.IdempotencyConfig;
+import com.test.customercrud.dto.CustomerLookupResponseDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.mapper.CustomerMapperImpl;
+import com.test.customercrud.service.CustomerEventService;
+import com.test.customercrud.service.CustomerService;
+import com.test.customercrud.service.Impl.IdempotencyServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static com.test.customercrud.controller.CustomerControllerThrottlingTest.TestResources.BULK_DELETE_BODY;
+import static com.test.customercrud.controller.CustomerControllerThrottlingTest.TestResources.CUSTOMER_ID;
+import static com.test.customercrud.controller.CustomerControllerThrottlingTest.TestResources.LOOKUP_BODY;
+import static com.test.customercrud.controller.CustomerControllerThrottlingTest.TestResources.buildCustomerResponseDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = CustomerController.class, properties = {
+        "customer.throttling.endpoints.scan.max-concurrent=1",
+        "customer.throttling.endpoints.scan.permits-per-second=0",
+        "customer.throttling.endpoints.lookup.max-concurrent=0",
+        "customer.throttling.endpoints.lookup.permits-per-second=0.5",
+        "customer.throttling.endpoints.lookup.burst=1",
+        "customer.throttling.endpoints.multi-get.permits-per-second=0.5",
+        "customer.throttling.endpoints.multi-get.burst=1",
+        "customer.throttling.endpoints.bulk-write.permits-per-second=0.5",
+        "customer.throttling.endpoints.bulk-write.burst=1"
+})
+@Import({SimpleMeterRegistry.class, IdempotencyConfig.class, IdempotencyServiceImpl.class})
+class CustomerControllerThrottlingTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @SpyBean
+    private CustomerMapperImpl mapper;
+    @MockBean
+    private CustomerService customerService;
+    @MockBean
+    private CustomerEventService customerEventService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void givenRateExceeded_whenGetCustomerById_thenTooManyRequestsWithRetryAfter() throws Exception {
+        when(customerService.get(CUSTOMER_ID)).thenReturn(buildCustomerResponseDTO());
+
+        mockMvc.perform(get("/api/customers/{id}", CUSTOMER_ID))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/customers/{id}", CUSTOMER_ID))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(content().json("{\"message\":\"Too many lookup requests, retry after 2 s\"}"));
+
+        assertThat(meterRegistry.get(ThrottlingInterceptor.REJECTED_COUNTER)
+                .tags("endpoint", "lookup", "reason", "rate").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenBulkheadFull_whenScanRequested_thenRejectedUntilStreamCompletes() throws Exception {
+        CountDownLatch exporting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            exporting.countDown();
+            assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+            Consumer<CustomerResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(buildCustomerResponseDTO());
+            return null;
+        }).when(customerService).exportAll(any(Consumer.class));
+
+        MvcResult export = mockMvc.perform(get("/api/customers/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(exporting.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get(ThrottlingInterceptor.IN_FLIGHT_GAUGE)
+                .tag("endpoint", "scan").gauge().value()).isEqualTo(1);
+
+        mockMvc.perform(get("/api/customers/search").param("email", "john"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+        release.countDown();
+        mockMvc.perform(asyncDispatch(export))
+                .andExpect(status().isOk());
+        assertThat(meterRegistry.get(ThrottlingInterceptor.IN_FLIGHT_GAUGE)
+                .tag("endpoint", "scan").gauge().value()).isZero();
+        assertThat(meterRegistry.get(ThrottlingInterceptor.REJECTED_COUNTER)
+                .tags("endpoint", "scan", "reason", "concurrency").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenMultiGetRateExceeded_whenLookup_thenRejectedUnderItsOwnGroup() throws Exception {
+        when(customerService.lookup(List.of(CUSTOMER_ID))).thenReturn(CustomerLookupResponseDTO.builder()
+                .customers(List.of(buildCustomerResponseDTO()))
+                .missingIds(List.of())
+                .build());
+
+        mockMvc.perform(post("/api/customers/lookup").contentType(MediaType.APPLICATION_JSON).content(LOOKUP_BODY))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/customers/lookup").contentType(MediaType.APPLICATION_JSON).content(LOOKUP_BODY))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(content().json("{\"message\":\"Too many multi-get requests, retry after 2 s\"}"));
+
+        assertThat(meterRegistry.get(ThrottlingInterceptor.REJECTED_COUNTER)
+                .tags("endpoint", "multi-get", "reason", "rate").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenBulkWriteRateExceeded_whenSingleDelete_thenNotRejected() throws Exception {
+        mockMvc.perform(delete("/api/customers").contentType(MediaType.APPLICATION_JSON).content(BULK_DELETE_BODY))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/customers").contentType(MediaType.APPLICATION_JSON).content(BULK_DELETE_BODY))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(content().json("{\"message\":\"Too many bulk-write requests, retry after 2 s\"}"));
+
+        mockMvc.perform(delete("/api/customers/{id}", CUSTOMER_ID))
+                .andExpect(status().isNoContent());
+        assertThat(meterRegistry.get(ThrottlingInterceptor.REJECTED_COUNTER)
+                .tags("endpoint", "bulk-write", "reason", "rate").counter().count()).isEqualTo(1);
+    }
+
+    static class TestResources {
+        static final Long CUSTOMER_ID = 1L;
+        static final String BULK_DELETE_BODY = "{\"ids\":[1,2,3]}";
+        static final String LOOKUP_BODY = "{\"ids\":[1]}";
+
+        static CustomerResponseDTO buildCustomerResponseDTO() {
+            return CustomerResponseDTO.builder()
+                    .id(CUSTOMER_ID)
+                    .fullName("John Doe")
+                    .email("john.doe@example.com")
+                    .version(0L)
+                    .updated(1718000000000L)
+                    .build();
+        }
+    }
+}
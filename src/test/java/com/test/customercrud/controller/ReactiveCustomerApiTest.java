@@ -0,0 +1,175 @@
+package com.test.customercrud.controller;
+
+import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import static com.test.customercrud.controller.ReactiveCustomerApiTest.TestResources.EMAIL;
+import static com.test.customercrud.controller.ReactiveCustomerApiTest.TestResources.NEW_NAME;
+import static com.test.customercrud.controller.ReactiveCustomerApiTest.TestResources.buildCustomerCreateRequestDTO;
+import static com.test.customercrud.controller.ReactiveCustomerApiTest.TestResources.buildCustomerUpdateRequestDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"reactive", "test"})
+class ReactiveCustomerApiTest {
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.update("DELETE FROM customers");
+    }
+
+    @Test
+    void givenValidCustomer_whenCreateAndGet_thenCustomerReturnedWithETag() {
+        CustomerResponseDTO created = create(EMAIL);
+
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getFullName()).isEqualTo("John Doe");
+        webTestClient.get().uri("/api/customers/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectHeader().exists(HttpHeaders.LAST_MODIFIED)
+                .expectBody(CustomerResponseDTO.class).isEqualTo(created);
+    }
+
+    @Test
+    void givenInvalidCustomer_whenCreate_thenBadRequest() {
+        webTestClient.post().uri("/api/customers")
+                .bodyValue(CustomerCreateRequestDTO.builder()
+                        .fullName("J")
+                        .email(EMAIL)
+                        .build())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("fullName: Full name must be between 2 and 50 characters");
+    }
+
+    @Test
+    void givenExistingEmail_whenCreate_thenConflict() {
+        create(EMAIL);
+
+        webTestClient.post().uri("/api/customers")
+                .bodyValue(buildCustomerCreateRequestDTO(EMAIL))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody()
+                .jsonPath("$.id").exists();
+    }
+
+    @Test
+    void givenMatchingETag_whenGet_thenNotModified() {
+        CustomerResponseDTO created = create(EMAIL);
+        String eTag = webTestClient.get().uri("/api/customers/{id}", created.getId())
+                .exchange()
+                .returnResult(CustomerResponseDTO.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get().uri("/api/customers/{id}", created.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void givenCustomers_whenGetAll_thenActiveCustomersStreamedInIdOrder() {
+        CustomerResponseDTO first = create(EMAIL);
+        CustomerResponseDTO second = create("jane.doe@example.com");
+        CustomerResponseDTO deleted = create("deleted@example.com");
+        webTestClient.delete().uri("/api/customers/{id}", deleted.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/customers")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(CustomerResponseDTO.class).isEqualTo(List.of(first, second));
+    }
+
+    @Test
+    void givenCurrentIfMatch_whenUpdate_thenCustomerUpdated() {
+        CustomerResponseDTO created = create(EMAIL);
+        String eTag = webTestClient.get().uri("/api/customers/{id}", created.getId())
+                .exchange()
+                .returnResult(CustomerResponseDTO.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.put().uri("/api/customers/{id}", created.getId())
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .bodyValue(buildCustomerUpdateRequestDTO(created.getId()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.fullName").isEqualTo(NEW_NAME);
+
+        webTestClient.put().uri("/api/customers/{id}", created.getId())
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .bodyValue(buildCustomerUpdateRequestDTO(created.getId()))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    void givenDeletedCustomer_whenGetOrDelete_thenNotFound() {
+        CustomerResponseDTO created = create(EMAIL);
+        webTestClient.delete().uri("/api/customers/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/customers/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Customer not found with id: %s".formatted(created.getId()));
+        webTestClient.delete().uri("/api/customers/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private CustomerResponseDTO create(String email) {
+        return webTestClient.post().uri("/api/customers")
+                .bodyValue(buildCustomerCreateRequestDTO(email))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CustomerResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    static class TestResources {
+        static final String EMAIL = "john.doe@example.com";
+        static final String NEW_NAME = "Jane Doe";
+
+        static CustomerCreateRequestDTO buildCustomerCreateRequestDTO(String email) {
+            return CustomerCreateRequestDTO.builder()
+                    .fullName("John Doe")
+                    .email(email)
+                    .phone("+380123321123")
+                    .build();
+        }
+
+        static CustomerUpdateRequestDTO buildCustomerUpdateRequestDTO(Long id) {
+            return CustomerUpdateRequestDTO.builder()
+                    .id(id)
+                    .fullName(NEW_NAME)
+                    .build();
+        }
+    }
+}
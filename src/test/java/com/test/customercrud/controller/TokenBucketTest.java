@@ -0,0 +1,36 @@
+package com.test.customercrud.controller;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    void givenFullBucket_whenBurstConsumed_thenNextRequestWaitsForOneInterval() {
+        TokenBucket bucket = new TokenBucket(10, 3, clock::get);
+
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void givenEmptyBucket_whenTimePasses_thenTokensRefillUpToBurst() {
+        TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+        bucket.tryAcquire();
+        bucket.tryAcquire();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isPositive();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isZero();
+        assertThat(bucket.tryAcquire()).isPositive();
+    }
+}
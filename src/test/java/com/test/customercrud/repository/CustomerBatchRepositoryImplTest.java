@@ -0,0 +1,142 @@
+package com.test.customercrud.repository;
+
+import com.mysql.cj.QueryInfo;
+import com.mysql.cj.Session;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.protocol.ServerSession;
+import com.test.customercrud.model.Customer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import static com.test.customercrud.repository.CustomerBatchRepositoryImplTest.TestResources.DEACTIVATED_EMAIL;
+import static com.test.customercrud.repository.CustomerBatchRepositoryImplTest.TestResources.EMAIL;
+import static com.test.customercrud.repository.CustomerBatchRepositoryImplTest.TestResources.NEW_EMAIL;
+import static com.test.customercrud.repository.CustomerBatchRepositoryImplTest.TestResources.NEW_NAME;
+import static com.test.customercrud.repository.CustomerBatchRepositoryImplTest.TestResources.UTF_8;
+import static com.test.customercrud.repository.CustomerBatchRepositoryImplTest.TestResources.buildCustomer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CustomerBatchRepositoryImplTest {
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Test
+    void givenNewCustomers_whenInsertAll_thenAllInsertedWithGeneratedIds() {
+        List<Customer> customers = IntStream.range(0, CustomerBatchRepositoryImpl.BATCH_SIZE + 3)
+                .mapToObj(i -> buildCustomer("customer" + i + "@example.com"))
+                .toList();
+
+        customerRepository.insertAll(customers);
+
+        assertThat(customers).allSatisfy(customer -> {
+            assertThat(customer.getId()).isNotNull();
+            assertThat(customer.getIsActive()).isTrue();
+            assertThat(customer.getCreated()).isEqualTo(customer.getUpdated());
+        });
+        assertThat(customers).extracting(Customer::getId).doesNotHaveDuplicates();
+        assertThat(customerRepository.count()).isEqualTo(customers.size());
+    }
+
+    @Test
+    void givenDuplicateEmailInChunk_whenInsertAll_thenOnlyDuplicateRejected() {
+        customerRepository.insertAll(new ArrayList<>(List.of(buildCustomer(EMAIL))));
+        List<Customer> customers = List.of(
+                buildCustomer("first@example.com"),
+                buildCustomer(EMAIL),
+                buildCustomer("second@example.com"));
+
+        customerRepository.insertAll(customers);
+
+        assertThat(customers).extracting(customer -> customer.getId() != null)
+                .containsExactly(true, false, true);
+        assertThat(customerRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void givenNewExistingAndDeactivatedEmails_whenUpsertAll_thenInsertedUpdatedAndReactivated() {
+        Customer existing = buildCustomer(EMAIL);
+        Customer deactivated = buildCustomer(DEACTIVATED_EMAIL);
+        customerRepository.insertAll(List.of(existing, deactivated));
+        customerRepository.deleteById(deactivated.getId());
+        customerRepository.flush();
+        List<Customer> customers = List.of(
+                buildCustomer(NEW_EMAIL),
+                Customer.builder().fullName(NEW_NAME).email(EMAIL).build(),
+                buildCustomer(DEACTIVATED_EMAIL));
+
+        Set<Long> reactivatedIds = customerRepository.upsertAll(customers);
+
+        assertThat(reactivatedIds).containsExactly(deactivated.getId());
+        assertThat(customers.get(0).getVersion()).isZero();
+        assertThat(customers.get(0).getCreated()).isEqualTo(customers.get(0).getUpdated());
+        assertThat(customers.get(1).getId()).isEqualTo(existing.getId());
+        assertThat(customers.get(1).getEmail()).isEqualTo(EMAIL);
+        assertThat(customers.get(1).getVersion()).isEqualTo(1);
+        assertThat(customers.get(1).getCreated()).isEqualTo(existing.getCreated());
+        assertThat(customers.get(2).getId()).isEqualTo(deactivated.getId());
+        assertThat(customers.get(2).getVersion()).isEqualTo(2);
+        assertThat(customerRepository.findResponseById(existing.getId())).hasValueSatisfying(customer -> {
+            assertThat(customer.getFullName()).isEqualTo(NEW_NAME);
+            assertThat(customer.getPhone()).isNull();
+        });
+        assertThat(customerRepository.findResponseById(deactivated.getId())).isPresent();
+        assertThat(customerRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void givenUpsertSql_whenBatchedByConnectorJ_thenChunkRewrittenToOneStatement() {
+        DefaultPropertySet properties = new DefaultPropertySet();
+        properties.getBooleanProperty(PropertyKey.rewriteBatchedStatements).setValue(true);
+        Session session = mock(Session.class);
+        when(session.getPropertySet()).thenReturn(properties);
+        when(session.getServerSession()).thenReturn(mock(ServerSession.class));
+
+        QueryInfo upsert = new QueryInfo(CustomerBatchRepositoryImpl.UPSERT_SQL, session, UTF_8);
+
+        assertThat(upsert.isRewritableWithMultiValuesClause()).isTrue();
+        assertThat(upsert.getSqlForBatch(CustomerBatchRepositoryImpl.BATCH_SIZE).split(";")).singleElement()
+                .satisfies(sql -> assertThat(sql.split("\\(\\?, \\?, \\?, \\?, \\?, true\\)", -1))
+                        .hasSize(CustomerBatchRepositoryImpl.BATCH_SIZE + 1));
+    }
+
+    @Test
+    void givenDeactivatedCustomer_whenFindExistingEmails_thenEmailReturned() {
+        Customer customer = buildCustomer(EMAIL);
+        customerRepository.insertAll(List.of(customer));
+        customerRepository.deleteById(customer.getId());
+        customerRepository.flush();
+
+        assertThat(customerRepository.findExistingEmails(List.of(EMAIL, "unknown@example.com")))
+                .containsExactly(EMAIL);
+    }
+
+    static class TestResources {
+        static final String FULL_NAME = "John Doe";
+        static final String EMAIL = "john.doe@example.com";
+        static final String PHONE = "+380123321123";
+        static final String NEW_EMAIL = "new@example.com";
+        static final String DEACTIVATED_EMAIL = "deactivated@example.com";
+        static final String NEW_NAME = "Jane Doe";
+        static final String UTF_8 = "UTF-8";
+
+        static Customer buildCustomer(String email) {
+            return Customer.builder()
+                    .fullName(FULL_NAME)
+                    .email(email)
+                    .phone(PHONE)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.test.customercrud.repository;
+
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.model.Customer;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import static com.test.customercrud.repository.CustomerRepositoryTest.TestResources.buildCustomer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CustomerRepositoryTest {
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Test
+    void givenCustomers_whenFindByFullNameStartingWith_thenActiveMatchesSliced() {
+        Customer deleted = buildCustomer("John Deleted", "deleted@example.com");
+        customerRepository.insertAll(List.of(
+                buildCustomer("John Smith", "smith@example.com"),
+                buildCustomer("John Doe", "doe@example.com"),
+                buildCustomer("Jane Doe", "jane@example.com"),
+                deleted));
+        customerRepository.deleteById(deleted.getId());
+        customerRepository.flush();
+
+        Slice<Customer> first = customerRepository.findByFullNameStartingWith("John",
+                PageRequest.of(0, 1, Sort.by("fullName", "id")));
+        Slice<Customer> second = customerRepository.findByFullNameStartingWith("John",
+                PageRequest.of(1, 1, Sort.by("fullName", "id")));
+
+        assertThat(first.getContent()).extracting(Customer::getFullName).containsExactly("John Doe");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Customer::getFullName).containsExactly("John Smith");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void givenWildcardInPrefix_whenFindByEmailStartingWith_thenWildcardMatchedLiterally() {
+        customerRepository.insertAll(List.of(
+                buildCustomer("John Doe", "john_doe@example.com"),
+                buildCustomer("John Doe", "johnxdoe@example.com")));
+
+        Slice<Customer> customers = customerRepository.findByEmailStartingWith("john_",
+                PageRequest.of(0, 10, Sort.by("email", "id")));
+
+        assertThat(customers.getContent()).extracting(Customer::getEmail)
+                .containsExactly("john_doe@example.com");
+    }
+
+    @Test
+    void givenDeactivatedCustomer_whenFindResponses_thenOnlyActiveProjectionsReturned() {
+        Customer active = buildCustomer("John Doe", "doe@example.com");
+        Customer deleted = buildCustomer("Jane Doe", "jane@example.com");
+        customerRepository.insertAll(List.of(active, deleted));
+        customerRepository.deleteById(deleted.getId());
+        customerRepository.flush();
+
+        assertThat(customerRepository.findResponsesByIdGreaterThan(0L, Limit.of(10)))
+                .containsExactly(new CustomerResponseDTO(active.getId(), "John Doe", "doe@example.com",
+                        TestResources.PHONE, active.getVersion(), active.getUpdated()));
+        assertThat(customerRepository.findResponseById(deleted.getId())).isEmpty();
+    }
+
+    @Test
+    void givenCustomer_whenFindResponseById_thenVersionAndUpdatedReturned() {
+        Customer active = buildCustomer("John Doe", "doe@example.com");
+        Customer deleted = buildCustomer("Jane Doe", "jane@example.com");
+        customerRepository.insertAll(List.of(active, deleted));
+        customerRepository.deleteById(deleted.getId());
+        customerRepository.flush();
+
+        assertThat(customerRepository.findResponseById(active.getId())).hasValueSatisfying(customer -> {
+            assertThat(customer.getVersion()).isEqualTo(active.getVersion());
+            assertThat(customer.getUpdated()).isEqualTo(active.getUpdated());
+        });
+        assertThat(customerRepository.findResponseById(deleted.getId())).isEmpty();
+    }
+
+    @Test
+    void givenDeactivatedCustomer_whenCountByEmailIncludingDeleted_thenEmailStillTaken() {
+        Customer deleted = buildCustomer("Jane Doe", "jane@example.com");
+        customerRepository.insertAll(List.of(deleted));
+        customerRepository.deleteById(deleted.getId());
+        customerRepository.flush();
+
+        assertThat(customerRepository.countByEmailIncludingDeleted("jane@example.com")).isEqualTo(1);
+        assertThat(customerRepository.countByEmailIncludingDeleted("doe@example.com")).isZero();
+        try (Stream<String> emails = customerRepository.streamAllEmails()) {
+            assertThat(emails).containsExactly("jane@example.com");
+        }
+    }
+
+    static class TestResources {
+        static final String PHONE = "+380123321123";
+
+        static Customer buildCustomer(String fullName, String email) {
+            return Customer.builder()
+                    .fullName(fullName)
+                    .email(email)
+                    .phone(PHONE)
+                    .build();
+        }
+    }
+}
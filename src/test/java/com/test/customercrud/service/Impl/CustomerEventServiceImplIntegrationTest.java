@@ -0,0 +1,218 @@
+package com.test.customercrud.service.Impl;
+
+import com.test.customercrud.dto.CustomerChangeDTO;
+import com.test.customercrud.dto.CustomerChangesResponseDTO;
+import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import com.test.customercrud.exception.PreconditionFailedException;
+import com.test.customercrud.model.CustomerEventType;
+import com.test.customercrud.service.CustomerEventService;
+import com.test.customercrud.service.CustomerService;
+import com.test.customercrud.service.sink.CustomerEventSink;
+import com.test.customercrud.service.sink.InMemoryCustomerEventSink;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import static com.test.customercrud.service.Impl.CustomerEventServiceImplIntegrationTest.TestResources.FAST_CUSTOMER_ID;
+import static com.test.customercrud.service.Impl.CustomerEventServiceImplIntegrationTest.TestResources.NEW_NAME;
+import static com.test.customercrud.service.Impl.CustomerEventServiceImplIntegrationTest.TestResources.SLOW_CUSTOMER_ID;
+import static com.test.customercrud.service.Impl.CustomerEventServiceImplIntegrationTest.TestResources.buildCustomerCreateRequestDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CustomerEventServiceImplIntegrationTest {
+    @Autowired
+    private CustomerService customerService;
+    @Autowired
+    private CustomerEventService customerEventService;
+    @SpyBean
+    private CustomerEventSink customerEventSink;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        jdbcTemplate.update("DELETE FROM customer_events");
+        ((InMemoryCustomerEventSink) customerEventSink).clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.update("DELETE FROM customers");
+        jdbcTemplate.update("DELETE FROM customer_events");
+    }
+
+    @Test
+    void givenCustomerMutations_whenGetChanges_thenEventsReturnedInOrder() {
+        CustomerResponseDTO customer = customerService.create(buildCustomerCreateRequestDTO("john.doe@example.com"));
+        customerService.update(customer.getId(), CustomerUpdateRequestDTO.builder()
+                .id(customer.getId())
+                .fullName(NEW_NAME)
+                .build(), null);
+        customerService.delete(customer.getId());
+        customerEventService.sequencePending();
+
+        CustomerChangesResponseDTO firstPage = customerEventService.getChanges(0, 2);
+        CustomerChangesResponseDTO secondPage = customerEventService.getChanges(firstPage.getNextSince(), 2);
+
+        assertThat(firstPage.isHasMore()).isTrue();
+        assertThat(firstPage.getItems())
+                .extracting(CustomerChangeDTO::getType)
+                .containsExactly(CustomerEventType.CREATED, CustomerEventType.UPDATED);
+        assertThat(firstPage.getItems().get(1).getCustomer().getFullName()).isEqualTo(NEW_NAME);
+        assertThat(secondPage.isHasMore()).isFalse();
+        assertThat(secondPage.getItems()).singleElement().satisfies(change -> {
+            assertThat(change.getType()).isEqualTo(CustomerEventType.DELETED);
+            assertThat(change.getCustomerId()).isEqualTo(customer.getId());
+            assertThat(change.getCustomer()).isNull();
+        });
+        assertThat(customerEventService.getChanges(secondPage.getNextSince(), 2).getItems()).isEmpty();
+    }
+
+    @Test
+    void givenBatchCreate_whenGetChanges_thenEventPerCreatedCustomer() {
+        customerService.createAll(List.of(
+                buildCustomerCreateRequestDTO("john.doe@example.com"),
+                buildCustomerCreateRequestDTO("john.doe@example.com"),
+                buildCustomerCreateRequestDTO("jane.doe@example.com")));
+        customerEventService.sequencePending();
+
+        assertThat(customerEventService.getChanges(0, 10).getItems())
+                .extracting(change -> change.getCustomer().getEmail())
+                .containsExactly("john.doe@example.com", "jane.doe@example.com");
+    }
+
+    @Test
+    void givenFailedUpdate_whenGetChanges_thenNoEventRecorded() {
+        CustomerResponseDTO customer = customerService.create(buildCustomerCreateRequestDTO("john.doe@example.com"));
+        long version = customer.getVersion();
+
+        assertThatThrownBy(() -> customerService.update(customer.getId(), CustomerUpdateRequestDTO.builder()
+                .id(customer.getId())
+                .fullName(NEW_NAME)
+                .build(), version + 1))
+                .isInstanceOf(PreconditionFailedException.class);
+        customerEventService.sequencePending();
+
+        assertThat(customerEventService.getChanges(0, 10).getItems())
+                .extracting(CustomerChangeDTO::getType)
+                .containsExactly(CustomerEventType.CREATED);
+    }
+
+    @Test
+    void givenEventsCommittedOutOfIdOrder_whenGetChanges_thenLateCommitNotSkipped() throws Exception {
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> slowWrite = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                status -> {
+                    customerEventService.recordDeleted(List.of(SLOW_CUSTOMER_ID));
+                    recorded.countDown();
+                    await(commit);
+                }));
+        await(recorded);
+        transactionTemplate.executeWithoutResult(status ->
+                customerEventService.recordDeleted(List.of(FAST_CUSTOMER_ID)));
+        customerEventService.sequencePending();
+
+        CustomerChangesResponseDTO firstPage = customerEventService.getChanges(0, 10);
+        commit.countDown();
+        slowWrite.get(5, TimeUnit.SECONDS);
+        customerEventService.sequencePending();
+        CustomerChangesResponseDTO secondPage = customerEventService.getChanges(firstPage.getNextSince(), 10);
+
+        assertThat(firstPage.getItems()).extracting(CustomerChangeDTO::getCustomerId)
+                .containsExactly(FAST_CUSTOMER_ID);
+        assertThat(secondPage.getItems()).singleElement().satisfies(change -> {
+            assertThat(change.getCustomerId()).isEqualTo(SLOW_CUSTOMER_ID);
+            assertThat(change.getId()).isLessThan(firstPage.getItems().get(0).getId());
+        });
+    }
+
+    @Test
+    void givenUnsequencedEvent_whenGetChanges_thenHeldBack() {
+        customerService.create(buildCustomerCreateRequestDTO("john.doe@example.com"));
+
+        assertThat(customerEventService.getChanges(0, 10).getItems()).isEmpty();
+        assertThat(customerEventService.sequencePending()).isEqualTo(1);
+        assertThat(customerEventService.sequencePending()).isZero();
+        assertThat(customerEventService.getChanges(0, 10).getItems()).singleElement()
+                .extracting(CustomerChangeDTO::getSequence)
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void givenExpiredUnsequencedEvent_whenPurgePublished_thenKeptUntilSequenced() {
+        customerService.create(buildCustomerCreateRequestDTO("john.doe@example.com"));
+        customerEventService.publishPending();
+        jdbcTemplate.update("UPDATE customer_events SET published = 1");
+
+        assertThat(customerEventService.purgePublished()).isZero();
+        customerEventService.sequencePending();
+        assertThat(customerEventService.purgePublished()).isEqualTo(1);
+    }
+
+    @Test
+    void givenPendingEvents_whenPublishPending_thenDeliveredOnce() {
+        customerService.create(buildCustomerCreateRequestDTO("john.doe@example.com"));
+        customerService.create(buildCustomerCreateRequestDTO("jane.doe@example.com"));
+
+        assertThat(customerEventService.publishPending()).isEqualTo(2);
+        assertThat(customerEventService.publishPending()).isZero();
+        assertThat(((InMemoryCustomerEventSink) customerEventSink).getPublished())
+                .extracting(change -> change.getCustomer().getEmail())
+                .containsExactly("john.doe@example.com", "jane.doe@example.com");
+    }
+
+    @Test
+    void givenSinkFailure_whenPublishPending_thenEventsRetriedOnNextRun() throws IOException {
+        customerService.create(buildCustomerCreateRequestDTO("john.doe@example.com"));
+        doThrow(new IOException("Broker unavailable")).when(customerEventSink).publish(anyList());
+
+        assertThatThrownBy(() -> customerEventService.publishPending()).hasRootCauseMessage("Broker unavailable");
+
+        reset(customerEventSink);
+        assertThat(customerEventService.publishPending()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class TestResources {
+        static final String NEW_NAME = "Jane Doe";
+        static final Long SLOW_CUSTOMER_ID = 1L;
+        static final Long FAST_CUSTOMER_ID = 2L;
+
+        static CustomerCreateRequestDTO buildCustomerCreateRequestDTO(String email) {
+            return CustomerCreateRequestDTO.builder()
+                    .fullName("John Doe")
+                    .email(email)
+                    .phone("+380123321123")
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.test.customercrud.service.Impl;
+
+import com.test.customercrud.config.CachingConfig;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import com.test.customercrud.mapper.CustomerMapperImpl;
+import com.test.customercrud.model.Customer;
+import com.test.customercrud.repository.CustomerRepository;
+import com.test.customercrud.service.CustomerEventService;
+import com.test.customercrud.service.CustomerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import static com.test.customercrud.service.Impl.CustomerServiceImplCachingTest.TestResources.CUSTOMER_ID;
+import static com.test.customercrud.service.Impl.CustomerServiceImplCachingTest.TestResources.NEW_NAME;
+import static com.test.customercrud.service.Impl.CustomerServiceImplCachingTest.TestResources.buildCustomerResponseDTO;
+import static com.test.customercrud.service.Impl.CustomerServiceImplCachingTest.TestResources.buildSavedCustomer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {CustomerServiceImpl.class, CustomerMapperImpl.class, CachingConfig.class,
+        SimpleMeterRegistry.class})
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+class CustomerServiceImplCachingTest {
+    @Autowired
+    private CustomerService customerService;
+    @Autowired
+    private CacheManager cacheManager;
+    @MockBean
+    private CustomerRepository customerRepository;
+    @MockBean
+    private EntityManager entityManager;
+    @MockBean
+    private Validator validator;
+    @MockBean
+    private CustomerEventService customerEventService;
+    @MockBean
+    private EmailBloomFilter emailBloomFilter;
+
+    @BeforeEach
+    void beforeEach() {
+        cacheManager.getCache(CachingConfig.CUSTOMERS_CACHE).clear();
+        when(customerRepository.findResponseById(CUSTOMER_ID)).thenReturn(Optional.of(buildCustomerResponseDTO()));
+        when(customerRepository.findById(CUSTOMER_ID)).thenReturn(Optional.of(buildSavedCustomer()));
+        when(customerRepository.deactivateById(eq(CUSTOMER_ID), anyLong())).thenReturn(1);
+    }
+
+    @Test
+    void givenCachedCustomer_whenGet_thenRepositoryNotQueriedAgain() {
+        customerService.get(CUSTOMER_ID);
+        customerService.get(CUSTOMER_ID);
+
+        verify(customerRepository, times(1)).findResponseById(CUSTOMER_ID);
+    }
+
+    @Test
+    void givenConcurrentMisses_whenGet_thenRepositoryQueriedOnce() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(customerRepository.findResponseById(CUSTOMER_ID)).thenAnswer(invocation -> {
+            loading.countDown();
+            assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+            return Optional.of(buildCustomerResponseDTO());
+        });
+
+        List<CompletableFuture<CustomerResponseDTO>> results = IntStream.range(0, 4)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> customerService.get(CUSTOMER_ID)))
+                .toList();
+        assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(results).allSatisfy(result ->
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(buildCustomerResponseDTO()));
+        verify(customerRepository, times(1)).findResponseById(CUSTOMER_ID);
+    }
+
+    @Test
+    void givenCachedCustomer_whenUpdate_thenCacheHoldsUpdatedCustomer() {
+        customerService.get(CUSTOMER_ID);
+        customerService.update(CUSTOMER_ID, CustomerUpdateRequestDTO.builder()
+                .id(CUSTOMER_ID)
+                .fullName(NEW_NAME)
+                .build(), null);
+
+        assertThat(customerService.get(CUSTOMER_ID).getFullName()).isEqualTo(NEW_NAME);
+        verify(customerRepository, times(1)).findResponseById(CUSTOMER_ID);
+        verify(customerRepository, times(1)).findById(CUSTOMER_ID);
+    }
+
+    @Test
+    void givenCachedCustomer_whenDelete_thenCacheEntryEvicted() {
+        customerService.get(CUSTOMER_ID);
+        customerService.delete(CUSTOMER_ID);
+
+        assertThat(cacheManager.getCache(CachingConfig.CUSTOMERS_CACHE).get(CUSTOMER_ID)).isNull();
+    }
+
+    static class TestResources {
+        static final Long CUSTOMER_ID = 1L;
+        static final String NEW_NAME = "Jane Doe";
+
+        static Customer buildSavedCustomer() {
+            return Customer.builder()
+                    .id(CUSTOMER_ID)
+                    .fullName("John Doe")
+                    .email("john.doe@example.com")
+                    .phone("+380123321123")
+                    .isActive(true)
+                    .build();
+        }
+
+        static CustomerResponseDTO buildCustomerResponseDTO() {
+            return CustomerResponseDTO.builder()
+                    .id(CUSTOMER_ID)
+                    .fullName("John Doe")
+                    .email("john.doe@example.com")
+                    .phone("+380123321123")
+                    .build();
+        }
+    }
+}
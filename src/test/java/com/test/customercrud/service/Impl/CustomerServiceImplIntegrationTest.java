@@ -0,0 +1,238 @@
+package com.test.customercrud.service.Impl;
+
+import com.test.customercrud.dto.CustomerBulkItemResultDTO;
+import com.test.customercrud.dto.CustomerBulkItemStatus;
+import com.test.customercrud.dto.CustomerBulkPatchRequestDTO;
+import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerLookupResponseDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import com.test.customercrud.exception.CustomerNotFoundException;
+import com.test.customercrud.exception.DuplicateEmailException;
+import com.test.customercrud.exception.PreconditionFailedException;
+import com.test.customercrud.repository.CustomerRepository;
+import com.test.customercrud.service.CustomerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import static com.test.customercrud.service.Impl.CustomerServiceImplIntegrationTest.TestResources.NEW_NAME;
+import static com.test.customercrud.service.Impl.CustomerServiceImplIntegrationTest.TestResources.buildCustomerCreateRequestDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class CustomerServiceImplIntegrationTest {
+    @Autowired
+    private CustomerService customerService;
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.update("DELETE FROM customers");
+        jdbcTemplate.update("DELETE FROM customer_events");
+    }
+
+    @Test
+    void givenActiveCustomer_whenDelete_thenUpdateAndEventInsertIssued() {
+        CustomerResponseDTO customer = customerService.create(buildCustomerCreateRequestDTO());
+        statistics.clear();
+
+        customerService.delete(customer.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(customerRepository.findById(customer.getId())).isEmpty();
+    }
+
+    @Test
+    void givenDeletedCustomer_whenDeleteAgain_thenNotFoundAfterSingleStatement() {
+        CustomerResponseDTO customer = customerService.create(buildCustomerCreateRequestDTO());
+        customerService.delete(customer.getId());
+        statistics.clear();
+
+        assertThatThrownBy(() -> customerService.delete(customer.getId()))
+                .isInstanceOf(CustomerNotFoundException.class);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenDeletedCustomer_whenCreateWithSameEmail_thenDuplicateEmailAfterSingleExistsQuery() {
+        CustomerResponseDTO customer = customerService.create(buildCustomerCreateRequestDTO());
+        customerService.delete(customer.getId());
+        statistics.clear();
+
+        assertThatThrownBy(() -> customerService.create(buildCustomerCreateRequestDTO()))
+                .isInstanceOf(DuplicateEmailException.class);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenActiveCustomer_whenUpdate_thenSelectUpdateAndEventInsertIssued() {
+        CustomerResponseDTO customer = customerService.create(buildCustomerCreateRequestDTO());
+        statistics.clear();
+
+        CustomerResponseDTO updated = customerService.update(customer.getId(),
+                CustomerUpdateRequestDTO.builder()
+                        .id(customer.getId())
+                        .fullName(NEW_NAME)
+                        .build(), null);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(updated.getFullName()).isEqualTo(NEW_NAME);
+        assertThat(updated.getVersion()).isEqualTo(customer.getVersion() + 1);
+        assertThat(customerRepository.findById(customer.getId()))
+                .hasValueSatisfying(saved -> {
+                    assertThat(saved.getFullName()).isEqualTo(NEW_NAME);
+                    assertThat(saved.getUpdated()).isEqualTo(updated.getUpdated());
+                });
+    }
+
+    @Test
+    void givenStaleIfMatch_whenUpdate_thenPreconditionFailedAndCustomerUnchanged() {
+        CustomerResponseDTO customer = customerService.create(buildCustomerCreateRequestDTO());
+        long version = customer.getVersion();
+
+        assertThatThrownBy(() -> customerService.update(customer.getId(),
+                CustomerUpdateRequestDTO.builder()
+                        .id(customer.getId())
+                        .fullName(NEW_NAME)
+                        .build(), version + 1))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(customerService.get(customer.getId()).getFullName()).isEqualTo("John Doe");
+    }
+
+    @Test
+    void givenConcurrentWrite_whenUpdate_thenOptimisticLockingFailure() {
+        CustomerResponseDTO customer = customerService.create(buildCustomerCreateRequestDTO());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            customerRepository.findById(customer.getId());
+            CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                    "UPDATE customers SET version = version + 1 WHERE id = ?", customer.getId())).join();
+            customerService.update(customer.getId(), CustomerUpdateRequestDTO.builder()
+                    .id(customer.getId())
+                    .fullName(NEW_NAME)
+                    .build(), null);
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(customerRepository.findById(customer.getId()))
+                .hasValueSatisfying(saved -> assertThat(saved.getFullName()).isEqualTo("John Doe"));
+    }
+
+    @Test
+    void givenCachedAndUnknownCustomers_whenDeleteAll_thenSetBasedUpdateAndCacheEvicted() {
+        CustomerResponseDTO customer = customerService.create(buildCustomerCreateRequestDTO());
+        customerService.get(customer.getId());
+        long version = jdbcTemplate.queryForObject(
+                "SELECT version FROM customers WHERE id = ?", Long.class, customer.getId());
+        statistics.clear();
+
+        List<CustomerBulkItemResultDTO> results = customerService.deleteAll(List.of(customer.getId(), Long.MAX_VALUE));
+
+        assertThat(results).extracting(CustomerBulkItemResultDTO::getStatus)
+                .containsExactly(CustomerBulkItemStatus.DELETED, CustomerBulkItemStatus.NOT_FOUND);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT version FROM customers WHERE id = ? AND is_active = false", Long.class, customer.getId()))
+                .isEqualTo(version + 1);
+        assertThatThrownBy(() -> customerService.get(customer.getId()))
+                .isInstanceOf(CustomerNotFoundException.class);
+    }
+
+    @Test
+    void givenActiveUnknownAndDeletedIds_whenLookup_thenSingleQueryAndMissingIdsReported() {
+        CustomerResponseDTO customer = customerService.create(buildCustomerCreateRequestDTO());
+        statistics.clear();
+
+        CustomerLookupResponseDTO found = customerService.lookup(
+                List.of(Long.MAX_VALUE, customer.getId(), Long.MAX_VALUE));
+
+        assertThat(found.getCustomers()).containsExactly(customer);
+        assertThat(found.getMissingIds()).containsExactly(Long.MAX_VALUE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        customerService.delete(customer.getId());
+        assertThat(customerService.lookup(List.of(customer.getId())).getMissingIds())
+                .containsExactly(customer.getId());
+    }
+
+    @Test
+    void givenActiveCustomer_whenPatchAll_thenFieldsAndUpdatedChanged() {
+        CustomerResponseDTO customer = customerService.create(buildCustomerCreateRequestDTO());
+        long updated = customer.getUpdated();
+        jdbcTemplate.update("UPDATE customers SET updated = ? WHERE id = ?", updated - 1000, customer.getId());
+
+        List<CustomerBulkItemResultDTO> results = customerService.patchAll(CustomerBulkPatchRequestDTO.builder()
+                .ids(List.of(customer.getId()))
+                .fullName(NEW_NAME)
+                .build());
+
+        assertThat(results).extracting(CustomerBulkItemResultDTO::getStatus)
+                .containsExactly(CustomerBulkItemStatus.UPDATED);
+        assertThat(customerService.get(customer.getId()).getFullName()).isEqualTo(NEW_NAME);
+        assertThat(customerService.get(customer.getId()).getPhone()).isEqualTo("+380123321123");
+        assertThat(customerService.get(customer.getId()).getUpdated()).isGreaterThanOrEqualTo(updated);
+    }
+
+    @Test
+    void givenUnknownCustomer_whenDelete_thenServiceAndRepositoryTimersRecorded() {
+        assertThatThrownBy(() -> customerService.delete(Long.MAX_VALUE))
+                .isInstanceOf(CustomerNotFoundException.class);
+
+        assertThat(meterRegistry.get("customer.service")
+                .tag("operation", "delete")
+                .tag("outcome", "ERROR")
+                .tag("exception", "CustomerNotFoundException")
+                .timer()
+                .count()).isPositive();
+        assertThat(meterRegistry.get("customer.repository")
+                .tag("operation", "deactivateById")
+                .tag("outcome", "SUCCESS")
+                .timer()
+                .count()).isPositive();
+    }
+
+    static class TestResources {
+        static final String NEW_NAME = "Jane Doe";
+
+        static CustomerCreateRequestDTO buildCustomerCreateRequestDTO() {
+            return CustomerCreateRequestDTO.builder()
+                    .fullName("John Doe")
+                    .email("john.doe@example.com")
+                    .phone("+380123321123")
+                    .build();
+        }
+    }
+}
@@ -1,21 +1,62 @@
 package com.test.customercrud.service.Impl;
 
+import com.test.customercrud.dto.CustomerBatchItemResultDTO;
+import com.test.customercrud.dto.CustomerBatchItemStatus;
+import com.test.customercrud.dto.CustomerBulkItemResultDTO;
+import com.test.customercrud.dto.CustomerBulkItemStatus;
+import com.test.customercrud.dto.CustomerBulkPatchRequestDTO;
 import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerLookupResponseDTO;
+import com.test.customercrud.dto.CustomerPageResponseDTO;
 import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.CustomerSearchMatch;
+import com.test.customercrud.dto.CustomerSearchRequestDTO;
+import com.test.customercrud.dto.CustomerSliceResponseDTO;
 import com.test.customercrud.dto.CustomerUpdateRequestDTO;
+import com.test.customercrud.dto.CustomerUpsertResultDTO;
+import com.test.customercrud.dto.CustomerUpsertStatus;
 import com.test.customercrud.exception.CustomerNotFoundException;
+import com.test.customercrud.exception.DuplicateEmailException;
+import com.test.customercrud.exception.InvalidBulkRequestException;
+import com.test.customercrud.exception.InvalidCursorException;
+import com.test.customercrud.exception.InvalidSearchRequestException;
+import com.test.customercrud.exception.PreconditionFailedException;
 import com.test.customercrud.mapper.CustomerMapperImpl;
 import com.test.customercrud.model.Customer;
+import com.test.customercrud.model.CustomerEventType;
 import com.test.customercrud.repository.CustomerRepository;
+import com.test.customercrud.service.CustomerEventService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.CURSOR;
 import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.CUSTOMER_ID;
+import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.EMAIL;
+import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.EXISTING_EMAIL;
+import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.FULL_NAME;
+import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.NEW_NAME;
+import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.OTHER_EMAIL;
+import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.UPDATED;
+import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.VERSION;
 import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.buildCustomer;
 import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.buildCustomerCreateRequestDTO;
 import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.buildCustomerResponseDTO;
@@ -25,6 +66,12 @@ import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestRes
 import static com.test.customercrud.service.Impl.CustomerServiceImplTest.TestResources.buildUpdatedCustomerResponseDTO;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +81,18 @@ class CustomerServiceImplTest {
     private CustomerRepository customerRepository;
     @Mock(answer = Answers.CALLS_REAL_METHODS)
     private CustomerMapperImpl customerMapper;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    @Mock
+    private CustomerEventService customerEventService;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache cache;
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
     @InjectMocks
     private CustomerServiceImpl customerService;
 
@@ -43,27 +102,339 @@ class CustomerServiceImplTest {
         CustomerResponseDTO responseDTO = customerService.create(buildCustomerCreateRequestDTO());
 
         assertThat(responseDTO).isEqualTo(buildCustomerResponseDTO());
+        verify(customerEventService).record(CustomerEventType.CREATED, CUSTOMER_ID, buildCustomerResponseDTO());
+        verify(customerRepository, never()).countByEmailIncludingDeleted(any());
+        verify(emailBloomFilter).put(EMAIL);
+    }
+
+    @Test
+    void givenEmailMightExistButDoesNot_whenCreate_thenCustomerCreated() {
+        when(emailBloomFilter.mightContain(EMAIL)).thenReturn(true);
+        when(customerRepository.countByEmailIncludingDeleted(EMAIL)).thenReturn(0L);
+        when(customerRepository.save(buildCustomer())).thenReturn(buildSavedCustomer());
+
+        assertThat(customerService.create(buildCustomerCreateRequestDTO())).isEqualTo(buildCustomerResponseDTO());
+        verify(emailBloomFilter).recordConfirmed(false);
+    }
+
+    @Test
+    void givenExistingEmail_whenCreate_thenDuplicateEmailExceptionThrown() {
+        when(emailBloomFilter.mightContain(EMAIL)).thenReturn(true);
+        when(customerRepository.countByEmailIncludingDeleted(EMAIL)).thenReturn(1L);
+
+        assertThatThrownBy(() -> customerService.create(buildCustomerCreateRequestDTO()))
+                .isInstanceOf(DuplicateEmailException.class)
+                .hasMessage("Customer with email %s already exists".formatted(EMAIL));
+        verify(emailBloomFilter).recordConfirmed(true);
+        verify(customerRepository, never()).save(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenBatchWithInvalidAndDuplicateItems_whenCreateAll_thenResultsReportedPerItem() {
+        CustomerCreateRequestDTO valid = buildCustomerCreateRequestDTO();
+        CustomerCreateRequestDTO invalid = CustomerCreateRequestDTO.builder()
+                .fullName(FULL_NAME)
+                .email(OTHER_EMAIL)
+                .phone("123")
+                .build();
+        CustomerCreateRequestDTO existing = CustomerCreateRequestDTO.builder()
+                .fullName(FULL_NAME)
+                .email(EXISTING_EMAIL)
+                .build();
+        when(emailBloomFilter.mightContain(any())).thenReturn(true);
+        when(customerRepository.findExistingEmails(List.of(EMAIL, OTHER_EMAIL, EXISTING_EMAIL)))
+                .thenReturn(List.of(EXISTING_EMAIL.toUpperCase()));
+        doAnswer(invocation -> {
+            List<Customer> customers = invocation.getArgument(0);
+            assertThat(customers).containsExactly(buildCustomer());
+            customers.forEach(customer -> customer.setId(CUSTOMER_ID));
+            return null;
+        }).when(customerRepository).insertAll(anyList());
+
+        List<CustomerBatchItemResultDTO> results = customerService.createAll(
+                List.of(valid, invalid, existing, valid));
+
+        assertThat(results).extracting(CustomerBatchItemResultDTO::getStatus).containsExactly(
+                CustomerBatchItemStatus.CREATED, CustomerBatchItemStatus.FAILED,
+                CustomerBatchItemStatus.FAILED, CustomerBatchItemStatus.FAILED);
+        assertThat(results.get(0).getCustomer()).isEqualTo(buildCustomerResponseDTO());
+        assertThat(results.get(1).getError()).startsWith("phone: ");
+        assertThat(results.get(2).getError())
+                .isEqualTo("Customer with email %s already exists".formatted(EXISTING_EMAIL));
+        assertThat(results.get(3).getError())
+                .isEqualTo("Customer with email %s already exists".formatted(EMAIL));
+    }
+
+    @Test
+    void givenEmailTakenConcurrently_whenCreateAll_thenItemReportedAsFailed() {
+        when(emailBloomFilter.mightContain(EMAIL)).thenReturn(true);
+        when(customerRepository.findExistingEmails(List.of(EMAIL))).thenReturn(List.of());
+
+        List<CustomerBatchItemResultDTO> results = customerService.createAll(
+                List.of(buildCustomerCreateRequestDTO()));
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.getStatus()).isEqualTo(CustomerBatchItemStatus.FAILED);
+            assertThat(result.getError())
+                    .isEqualTo("Customer with email %s already exists".formatted(EMAIL));
+        });
+    }
+
+    @Test
+    void givenEmailsAbsentFromFilter_whenCreateAll_thenExistingEmailsNotQueried() {
+        doAnswer(invocation -> {
+            List<Customer> customers = invocation.getArgument(0);
+            customers.forEach(customer -> customer.setId(CUSTOMER_ID));
+            return null;
+        }).when(customerRepository).insertAll(anyList());
+
+        List<CustomerBatchItemResultDTO> results = customerService.createAll(
+                List.of(buildCustomerCreateRequestDTO()));
+
+        assertThat(results).extracting(CustomerBatchItemResultDTO::getStatus)
+                .containsExactly(CustomerBatchItemStatus.CREATED);
+        verify(customerRepository, never()).findExistingEmails(any());
+        verify(emailBloomFilter).put(EMAIL);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenRepeatedAndExistingEmails_whenUpsertAll_thenResultPerIndexAndLastOccurrenceWins() {
+        when(cacheManager.getCache(any())).thenReturn(cache);
+        doAnswer(invocation -> {
+            List<Customer> customers = invocation.getArgument(0);
+            assertThat(customers).extracting(Customer::getEmail)
+                    .containsExactly(EMAIL.toUpperCase(), OTHER_EMAIL);
+            customers.get(0).setId(CUSTOMER_ID);
+            customers.get(0).setVersion(3L);
+            customers.get(1).setId(2L);
+            customers.get(1).setVersion(0L);
+            return Set.of();
+        }).when(customerRepository).upsertAll(anyList());
+
+        List<CustomerUpsertResultDTO> results = customerService.upsertAll(List.of(
+                CustomerCreateRequestDTO.builder().fullName(NEW_NAME).email(EMAIL).build(),
+                CustomerCreateRequestDTO.builder().fullName(FULL_NAME).email(OTHER_EMAIL).build(),
+                CustomerCreateRequestDTO.builder().fullName(FULL_NAME).email(EMAIL.toUpperCase()).build()));
+
+        assertThat(results).extracting(CustomerUpsertResultDTO::getIndex).containsExactly(0, 1, 2);
+        assertThat(results).extracting(CustomerUpsertResultDTO::getStatus)
+                .containsExactly(CustomerUpsertStatus.UPDATED, CustomerUpsertStatus.CREATED,
+                        CustomerUpsertStatus.UPDATED);
+        assertThat(results.get(0).getCustomer()).isSameAs(results.get(2).getCustomer());
+        assertThat(results.get(0).getCustomer().getFullName()).isEqualTo(FULL_NAME);
+        verify(customerEventService).recordAll(CustomerEventType.CREATED, List.of(results.get(1).getCustomer()));
+        verify(customerEventService).recordAll(CustomerEventType.UPDATED, List.of(results.get(0).getCustomer()));
+        verify(cache).evict(CUSTOMER_ID);
+        verify(cache, never()).evict(2L);
+    }
+
+    @Test
+    void givenDeactivatedEmail_whenUpsert_thenReportedAsCreated() {
+        when(cacheManager.getCache(any())).thenReturn(cache);
+        doAnswer(invocation -> {
+            Customer customer = invocation.<List<Customer>>getArgument(0).get(0);
+            customer.setId(CUSTOMER_ID);
+            customer.setVersion(2L);
+            return Set.of(CUSTOMER_ID);
+        }).when(customerRepository).upsertAll(anyList());
+
+        CustomerUpsertResultDTO result = customerService.upsert(
+                CustomerCreateRequestDTO.builder().fullName(FULL_NAME).email(EMAIL).build());
+
+        assertThat(result.getStatus()).isEqualTo(CustomerUpsertStatus.CREATED);
+        verify(customerEventService).recordAll(CustomerEventType.CREATED, List.of(result.getCustomer()));
+        verify(customerEventService).recordAll(CustomerEventType.UPDATED, List.of());
+        verify(cache).evict(CUSTOMER_ID);
     }
 
     @Test
     void givenCustomersExist_whenGetAll_thenAllActiveCustomersReturned() {
-        when(customerRepository.findAll()).thenReturn(List.of(buildSavedCustomer()));
-        List<CustomerResponseDTO> responseDTOs = customerService.getAll();
+        when(customerRepository.findResponsesByIdGreaterThan(0L, Limit.of(51)))
+                .thenReturn(List.of(buildCustomerResponseDTO()));
+        CustomerPageResponseDTO page = customerService.getAll(null, 50);
+
+        assertThat(page.getItems()).containsExactly(buildCustomerResponseDTO());
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void givenMoreCustomersThanLimit_whenGetAll_thenNextCursorReturned() {
+        when(customerRepository.findResponsesByIdGreaterThan(0L, Limit.of(2)))
+                .thenReturn(List.of(buildCustomerResponseDTO(), buildUpdatedCustomerResponseDTO()));
+        CustomerPageResponseDTO page = customerService.getAll(null, 1);
+
+        assertThat(page.getItems()).containsExactly(buildCustomerResponseDTO());
+        assertThat(page.getNextCursor()).isEqualTo(CURSOR);
+        assertThat(page.isHasNext()).isTrue();
+    }
 
-        assertThat(responseDTOs).containsExactly(buildCustomerResponseDTO());
+    @Test
+    void givenCursor_whenGetAll_thenCustomersAfterCursorReturned() {
+        when(customerRepository.findResponsesByIdGreaterThan(CUSTOMER_ID, Limit.of(51)))
+                .thenReturn(List.of());
+        CustomerPageResponseDTO page = customerService.getAll(CURSOR, 50);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void givenLimitAboveMaximum_whenGetAll_thenLimitClamped() {
+        when(customerRepository.findResponsesByIdGreaterThan(0L,
+                Limit.of(CustomerServiceImpl.MAX_PAGE_SIZE + 1))).thenReturn(List.of());
+        CustomerPageResponseDTO page = customerService.getAll(null, Integer.MAX_VALUE);
+
+        assertThat(page.getItems()).isEmpty();
+    }
+
+    @Test
+    void givenMalformedCursor_whenGetAll_thenInvalidCursorExceptionThrown() {
+        assertThatThrownBy(() -> customerService.getAll("not-a-cursor", 50))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining("Invalid cursor: not-a-cursor");
+    }
+
+    @Test
+    void givenFullNamePrefix_whenSearch_thenPrefixQueryUsed() {
+        PageRequest pageable = PageRequest.of(0, 20, Sort.by("fullName", "id"));
+        when(customerRepository.findByFullNameStartingWith("John", pageable))
+                .thenReturn(new SliceImpl<>(List.of(buildSavedCustomer()), pageable, true));
+        CustomerSliceResponseDTO slice = customerService.search(CustomerSearchRequestDTO.builder()
+                .fullName("John")
+                .match(CustomerSearchMatch.PREFIX)
+                .size(20)
+                .build());
+
+        assertThat(slice.getItems()).containsExactly(buildCustomerResponseDTO());
+        assertThat(slice.isHasNext()).isTrue();
+        assertThat(slice.getSize()).isEqualTo(20);
+    }
+
+    @Test
+    void givenExactEmail_whenSearch_thenExactQueryUsed() {
+        PageRequest pageable = PageRequest.of(1, 10, Sort.by("email", "id"));
+        when(customerRepository.findByEmail(EMAIL, pageable))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        CustomerSliceResponseDTO slice = customerService.search(CustomerSearchRequestDTO.builder()
+                .email(EMAIL)
+                .match(CustomerSearchMatch.EXACT)
+                .page(1)
+                .size(10)
+                .build());
+
+        assertThat(slice.getItems()).isEmpty();
+        assertThat(slice.getPage()).isEqualTo(1);
+        assertThat(slice.isHasNext()).isFalse();
+    }
+
+    @Test
+    void givenSizeAboveMaximum_whenSearch_thenSizeClamped() {
+        PageRequest pageable = PageRequest.of(0, CustomerServiceImpl.MAX_SEARCH_PAGE_SIZE,
+                Sort.by("phone", "id"));
+        when(customerRepository.findByPhoneStartingWith("+380", pageable))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        CustomerSliceResponseDTO slice = customerService.search(CustomerSearchRequestDTO.builder()
+                .phone("+380")
+                .match(CustomerSearchMatch.PREFIX)
+                .size(Integer.MAX_VALUE)
+                .build());
+
+        assertThat(slice.getSize()).isEqualTo(CustomerServiceImpl.MAX_SEARCH_PAGE_SIZE);
+    }
+
+    @Test
+    void givenSeveralFilters_whenSearch_thenInvalidSearchRequestExceptionThrown() {
+        CustomerSearchRequestDTO request = CustomerSearchRequestDTO.builder()
+                .fullName("John")
+                .email(EMAIL)
+                .size(20)
+                .build();
+
+        assertThatThrownBy(() -> customerService.search(request))
+                .isInstanceOf(InvalidSearchRequestException.class)
+                .hasMessage("Exactly one of fullName, email or phone must be provided");
+    }
+
+    @Test
+    void givenPageBeyondOffsetLimit_whenSearch_thenInvalidSearchRequestExceptionThrown() {
+        CustomerSearchRequestDTO request = CustomerSearchRequestDTO.builder()
+                .fullName("John")
+                .page(CustomerServiceImpl.MAX_SEARCH_OFFSET / 20)
+                .size(20)
+                .build();
+
+        assertThatThrownBy(() -> customerService.search(request))
+                .isInstanceOf(InvalidSearchRequestException.class);
+        verify(customerRepository, never()).findByFullNameStartingWith(any(), any());
+    }
+
+    @Test
+    void givenLastPageWithinOffsetLimit_whenSearch_thenNoNextPageReported() {
+        int lastPage = CustomerServiceImpl.MAX_SEARCH_OFFSET / 20 - 1;
+        PageRequest pageable = PageRequest.of(lastPage, 20, Sort.by("fullName", "id"));
+        when(customerRepository.findByFullNameStartingWith("John", pageable))
+                .thenReturn(new SliceImpl<>(List.of(buildSavedCustomer()), pageable, true));
+
+        CustomerSliceResponseDTO slice = customerService.search(CustomerSearchRequestDTO.builder()
+                .fullName("John")
+                .page(lastPage)
+                .size(20)
+                .build());
+
+        assertThat(slice.isHasNext()).isFalse();
+    }
+
+    @Test
+    void givenCustomersExist_whenExportAll_thenEachCustomerPassedToConsumerAndDetached() {
+        Customer customer = buildSavedCustomer();
+        when(customerRepository.streamAll()).thenReturn(Stream.of(customer));
+        List<CustomerResponseDTO> exported = new ArrayList<>();
+
+        customerService.exportAll(exported::add);
+
+        assertThat(exported).containsExactly(buildCustomerResponseDTO());
+        verify(entityManager).detach(customer);
     }
 
     @Test
     void givenCustomerId_whenGet_thenCustomerReturned() {
-        when(customerRepository.findById(CUSTOMER_ID)).thenReturn(Optional.of(buildSavedCustomer()));
+        when(customerRepository.findResponseById(CUSTOMER_ID)).thenReturn(Optional.of(buildCustomerResponseDTO()));
         CustomerResponseDTO responseDTO = customerService.get(CUSTOMER_ID);
 
         assertThat(responseDTO).isEqualTo(buildCustomerResponseDTO());
     }
 
+    @Test
+    void givenDuplicateAndUnknownIds_whenLookup_thenFoundAndMissingReportedInRequestOrder() {
+        when(customerRepository.findResponsesByIdIn(List.of(99L, CUSTOMER_ID)))
+                .thenReturn(List.of(buildCustomerResponseDTO()));
+
+        CustomerLookupResponseDTO response = customerService.lookup(List.of(99L, CUSTOMER_ID, 99L));
+
+        assertThat(response.getCustomers()).containsExactly(buildCustomerResponseDTO());
+        assertThat(response.getMissingIds()).containsExactly(99L);
+    }
+
+    @Test
+    void givenMoreIdsThanChunkSize_whenLookup_thenQueriedInChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, CustomerServiceImpl.BULK_CHUNK_SIZE + 1)
+                .boxed()
+                .toList();
+
+        CustomerLookupResponseDTO response = customerService.lookup(ids);
+
+        verify(customerRepository).findResponsesByIdIn(ids.subList(0, CustomerServiceImpl.BULK_CHUNK_SIZE));
+        verify(customerRepository).findResponsesByIdIn(List.of((long) CustomerServiceImpl.BULK_CHUNK_SIZE + 1));
+        assertThat(response.getMissingIds()).isEqualTo(ids);
+    }
+
     @Test
     void givenInvalidCustomerId_whenGet_thenCustomerNotFoundExceptionThrown() {
-        when(customerRepository.findById(CUSTOMER_ID)).thenReturn(Optional.empty());
+        when(customerRepository.findResponseById(CUSTOMER_ID)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> customerService.get(CUSTOMER_ID))
                 .isInstanceOf(CustomerNotFoundException.class)
@@ -72,42 +443,120 @@ class CustomerServiceImplTest {
 
     @Test
     void givenUpdateCustomerRequest_whenUpdate_thenCustomerUpdated() {
-        when(customerRepository.findById(CUSTOMER_ID)).thenReturn(Optional.of(buildSavedCustomer()));
-        when(customerRepository.save(buildUpdatedCustomer())).thenReturn(buildUpdatedCustomer());
-        CustomerResponseDTO responseDTO = customerService.update(CUSTOMER_ID, buildCustomerUpdateRequestDTO());
+        Customer customer = buildSavedCustomer();
+        when(customerRepository.findById(CUSTOMER_ID)).thenReturn(Optional.of(customer));
+        CustomerResponseDTO responseDTO = customerService.update(CUSTOMER_ID, buildCustomerUpdateRequestDTO(), null);
 
         assertThat(responseDTO).isEqualTo(buildUpdatedCustomerResponseDTO());
+        assertThat(customer).isEqualTo(buildUpdatedCustomer());
+        verify(customerRepository, never()).save(any(Customer.class));
+        verify(customerRepository).flush();
     }
 
     @Test
     void givenInvalidCustomerId_whenUpdate_thenCustomerNotFoundExceptionThrown() {
         when(customerRepository.findById(CUSTOMER_ID)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> customerService.update(CUSTOMER_ID, buildCustomerUpdateRequestDTO()))
+        assertThatThrownBy(() -> customerService.update(CUSTOMER_ID, buildCustomerUpdateRequestDTO(), null))
                 .isInstanceOf(CustomerNotFoundException.class)
                 .hasMessageContaining("Customer not found with id: %s".formatted(CUSTOMER_ID));
     }
 
+    @Test
+    void givenMatchingExpectedVersion_whenUpdate_thenCustomerUpdated() {
+        Customer customer = buildSavedCustomer();
+        customer.setVersion(VERSION);
+        when(customerRepository.findById(CUSTOMER_ID)).thenReturn(Optional.of(customer));
+
+        customerService.update(CUSTOMER_ID, buildCustomerUpdateRequestDTO(), VERSION);
+
+        assertThat(customer.getFullName()).isEqualTo(NEW_NAME);
+    }
+
+    @Test
+    void givenStaleExpectedVersionWithSameUpdated_whenUpdate_thenPreconditionFailedExceptionThrown() {
+        Customer customer = buildSavedCustomer();
+        customer.setUpdated(UPDATED);
+        customer.setVersion(VERSION + 1);
+        when(customerRepository.findById(CUSTOMER_ID)).thenReturn(Optional.of(customer));
+
+        assertThatThrownBy(() -> customerService.update(
+                CUSTOMER_ID, buildCustomerUpdateRequestDTO(), VERSION))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessage("Customer %s has been modified".formatted(CUSTOMER_ID));
+        assertThat(customer.getFullName()).isEqualTo(FULL_NAME);
+    }
+
     @Test
     void givenCustomerId_whenDelete_thenCustomerDeactivated() {
-        when(customerRepository.findById(CUSTOMER_ID)).thenReturn(Optional.of(buildSavedCustomer()));
+        when(customerRepository.deactivateById(eq(CUSTOMER_ID), anyLong())).thenReturn(1);
         customerService.delete(CUSTOMER_ID);
-        verify(customerRepository).deleteById(CUSTOMER_ID);
+        verify(customerRepository).deactivateById(eq(CUSTOMER_ID), anyLong());
+        verify(customerRepository, never()).findById(CUSTOMER_ID);
+        verify(customerEventService).record(CustomerEventType.DELETED, CUSTOMER_ID, null);
     }
 
     @Test
     void givenInvalidCustomerId_whenDelete_thenCustomerNotFoundExceptionThrown() {
-        when(customerRepository.findById(CUSTOMER_ID)).thenReturn(Optional.empty());
+        when(customerRepository.deactivateById(eq(CUSTOMER_ID), anyLong())).thenReturn(0);
 
         assertThatThrownBy(() -> customerService.delete(CUSTOMER_ID))
                 .isInstanceOf(CustomerNotFoundException.class)
                 .hasMessageContaining("Customer not found with id: %s".formatted(CUSTOMER_ID));
+        verify(customerEventService, never()).record(any(), any(), any());
+    }
+
+    @Test
+    void givenActiveAndUnknownIds_whenDeleteAll_thenOutcomePerIdAndCacheEvicted() {
+        when(cacheManager.getCache(any())).thenReturn(cache);
+        when(customerRepository.lockActiveIds(List.of(CUSTOMER_ID, 99L))).thenReturn(List.of(CUSTOMER_ID));
+
+        List<CustomerBulkItemResultDTO> results = customerService.deleteAll(List.of(CUSTOMER_ID, 99L, CUSTOMER_ID));
+
+        assertThat(results).containsExactly(
+                CustomerBulkItemResultDTO.builder().id(CUSTOMER_ID).status(CustomerBulkItemStatus.DELETED).build(),
+                CustomerBulkItemResultDTO.builder().id(99L).status(CustomerBulkItemStatus.NOT_FOUND).build());
+        verify(customerRepository).deactivateAllById(eq(List.of(CUSTOMER_ID)), anyLong());
+        verify(customerEventService).recordDeleted(List.of(CUSTOMER_ID));
+        verify(cache).evict(CUSTOMER_ID);
+    }
+
+    @Test
+    void givenMoreIdsThanChunkSize_whenDeleteAll_thenUpdatedInChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, CustomerServiceImpl.BULK_CHUNK_SIZE + 1)
+                .boxed()
+                .toList();
+        when(customerRepository.lockActiveIds(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        customerService.deleteAll(ids);
+
+        verify(customerRepository).deactivateAllById(eq(ids.subList(0, CustomerServiceImpl.BULK_CHUNK_SIZE)),
+                anyLong());
+        verify(customerRepository).deactivateAllById(eq(List.of((long) CustomerServiceImpl.BULK_CHUNK_SIZE + 1)),
+                anyLong());
+    }
+
+    @Test
+    void givenNoFields_whenPatchAll_thenInvalidBulkRequestExceptionThrown() {
+        CustomerBulkPatchRequestDTO request = CustomerBulkPatchRequestDTO.builder()
+                .ids(List.of(CUSTOMER_ID))
+                .build();
+
+        assertThatThrownBy(() -> customerService.patchAll(request))
+                .isInstanceOf(InvalidBulkRequestException.class)
+                .hasMessage("At least one of fullName or phone must be provided");
+        verify(customerRepository, never()).lockActiveIds(any());
     }
 
     static class TestResources {
         static final Long CUSTOMER_ID = 1L;
+        static final String CURSOR = "aWQ6MQ";
+        static final long UPDATED = 1718000000000L;
+        static final long VERSION = 3L;
         static final String FULL_NAME = "John Doe";
         static final String EMAIL = "john.doe@example.com";
+        static final String OTHER_EMAIL = "jane.doe@example.com";
+        static final String EXISTING_EMAIL = "existing@example.com";
         static final String PHONE = "+380123321123";
         static final String NEW_PHONE = "+380987654321";
         public static final String NEW_NAME = "Jane Doe";
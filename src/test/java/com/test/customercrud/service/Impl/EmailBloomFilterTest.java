@@ -0,0 +1,85 @@
+package com.test.customercrud.service.Impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import static com.test.customercrud.service.Impl.EmailBloomFilterTest.TestResources.EMAIL;
+import static com.test.customercrud.service.Impl.EmailBloomFilterTest.TestResources.EXPECTED_INSERTIONS;
+import static com.test.customercrud.service.Impl.EmailBloomFilterTest.TestResources.FALSE_POSITIVE_PROBABILITY;
+import static com.test.customercrud.service.Impl.EmailBloomFilterTest.TestResources.emails;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailBloomFilterTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmailBloomFilter filter = new EmailBloomFilter(
+            EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY, meterRegistry);
+
+    @Test
+    void givenFilterNotLoaded_whenMightContain_thenEveryEmailMightBePresent() {
+        assertThat(filter.isLoaded()).isFalse();
+        assertThat(filter.mightContain(EMAIL)).isTrue();
+    }
+
+    @Test
+    void givenStoredEmails_whenMightContain_thenNoFalseNegatives() {
+        List<String> stored = emails("stored", EXPECTED_INSERTIONS);
+        stored.forEach(filter::put);
+        filter.markLoaded();
+
+        assertThat(stored).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void givenStoredEmail_whenMightContainWithOtherCase_thenMightBePresent() {
+        filter.put(EMAIL);
+        filter.markLoaded();
+
+        assertThat(filter.mightContain(EMAIL.toUpperCase())).isTrue();
+    }
+
+    @Test
+    void givenFilterAtCapacity_whenMightContainUnknownEmails_thenFalsePositiveRateWithinBound() {
+        emails("stored", EXPECTED_INSERTIONS).forEach(filter::put);
+        filter.markLoaded();
+
+        long falsePositives = emails("unknown", EXPECTED_INSERTIONS).stream()
+                .filter(filter::mightContain)
+                .count();
+
+        assertThat((double) falsePositives / EXPECTED_INSERTIONS).isLessThan(FALSE_POSITIVE_PROBABILITY * 2);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(FALSE_POSITIVE_PROBABILITY * 2);
+    }
+
+    @Test
+    void givenChecks_whenMetricsRead_thenSizeRateAndOutcomesReported() {
+        filter.markLoaded();
+        filter.mightContain(EMAIL);
+        filter.recordConfirmed(true);
+        filter.recordConfirmed(false);
+
+        assertThat(meterRegistry.get(EmailBloomFilter.SIZE_GAUGE).gauge().value())
+                .isEqualTo(filter.sizeInBytes())
+                .isPositive();
+        assertThat(meterRegistry.get(EmailBloomFilter.FALSE_POSITIVE_RATE_GAUGE).gauge().value()).isZero();
+        assertThat(meterRegistry.get(EmailBloomFilter.CHECKS_COUNTER).tag("result", "absent").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(EmailBloomFilter.CHECKS_COUNTER).tag("result", "duplicate").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(EmailBloomFilter.CHECKS_COUNTER).tag("result", "false_positive").counter()
+                .count()).isEqualTo(1);
+    }
+
+    static class TestResources {
+        static final int EXPECTED_INSERTIONS = 10_000;
+        static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+        static final String EMAIL = "john.doe@example.com";
+
+        static List<String> emails(String prefix, int count) {
+            return IntStream.range(0, count)
+                    .mapToObj(i -> prefix + i + "@example.com")
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.test.customercrud.service.Impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.customercrud.config.IdempotencyProperties;
+import com.test.customercrud.dto.CustomerCreateRequestDTO;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.exception.CustomerNotFoundException;
+import com.test.customercrud.exception.IdempotencyKeyInProgressException;
+import com.test.customercrud.exception.IdempotencyKeyReusedException;
+import com.test.customercrud.exception.InvalidIdempotencyKeyException;
+import com.test.customercrud.service.idempotency.InMemoryIdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import static com.test.customercrud.service.Impl.IdempotencyServiceImplTest.TestResources.KEY;
+import static com.test.customercrud.service.Impl.IdempotencyServiceImplTest.TestResources.OPERATION;
+import static com.test.customercrud.service.Impl.IdempotencyServiceImplTest.TestResources.buildCustomerCreateRequestDTO;
+import static com.test.customercrud.service.Impl.IdempotencyServiceImplTest.TestResources.buildCustomerResponseDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyServiceImplTest {
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotencyServiceImpl idempotencyService = new IdempotencyServiceImpl(
+            new InMemoryIdempotencyStore(Duration.ofMinutes(1), 100), properties, new ObjectMapper(), meterRegistry);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void givenNoKey_whenExecute_thenActionRunsEveryTime() {
+        idempotencyService.execute(null, OPERATION, buildCustomerCreateRequestDTO(), created());
+        idempotencyService.execute(null, OPERATION, buildCustomerCreateRequestDTO(), created());
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void givenCompletedKey_whenExecuteAgain_thenStoredResponseReplayed() {
+        idempotencyService.execute(KEY, OPERATION, buildCustomerCreateRequestDTO(), created());
+
+        ResponseEntity<CustomerResponseDTO> replayed = idempotencyService.execute(
+                KEY, OPERATION, buildCustomerCreateRequestDTO(), created());
+
+        assertThat(calls).hasValue(1);
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replayed.getBody()).isEqualTo(buildCustomerResponseDTO());
+        assertThat(replayed.getHeaders().getFirst(IdempotencyServiceImpl.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void givenCompletedKey_whenExecutedWithOtherRequest_thenIdempotencyKeyReusedExceptionThrown() {
+        idempotencyService.execute(KEY, OPERATION, buildCustomerCreateRequestDTO(), created());
+        CustomerCreateRequestDTO other = buildCustomerCreateRequestDTO();
+        other.setFullName("Jane Doe");
+
+        assertThatThrownBy(() -> idempotencyService.execute(KEY, OPERATION, other, created()))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void givenConcurrentDuplicate_whenFirstRequestCompletes_thenDuplicateSharesResponse() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<CustomerResponseDTO>> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(KEY, OPERATION, buildCustomerCreateRequestDTO(), () -> {
+                    running.countDown();
+                    await(release);
+                    return created().get();
+                }));
+        assertThat(running.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<ResponseEntity<CustomerResponseDTO>> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute(KEY, OPERATION, buildCustomerCreateRequestDTO(), created()));
+        Thread.sleep(100);
+        assertThat(duplicate).isNotDone();
+        release.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(duplicate.get(10, TimeUnit.SECONDS).getBody()).isEqualTo(buildCustomerResponseDTO());
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void givenFailingRequest_whenRetried_thenFailureNotStored() {
+        assertThatThrownBy(() -> idempotencyService.execute(KEY, OPERATION, buildCustomerCreateRequestDTO(), () -> {
+            throw new CustomerNotFoundException("Customer not found with id: 1");
+        })).isInstanceOf(CustomerNotFoundException.class);
+
+        idempotencyService.execute(KEY, OPERATION, buildCustomerCreateRequestDTO(), created());
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void givenSlowFirstRequest_whenDuplicateWaitsTooLong_thenIdempotencyKeyInProgressExceptionThrown() {
+        properties.setWaitTimeout(Duration.ofMillis(50));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> idempotencyService.execute(KEY, OPERATION, buildCustomerCreateRequestDTO(),
+                () -> {
+                    running.countDown();
+                    await(release);
+                    return created().get();
+                }));
+        await(running);
+
+        try {
+            assertThatThrownBy(() -> idempotencyService.execute(KEY, OPERATION, buildCustomerCreateRequestDTO(),
+                    created())).isInstanceOf(IdempotencyKeyInProgressException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void givenTooLongKey_whenExecute_thenInvalidIdempotencyKeyExceptionThrown() {
+        assertThatThrownBy(() -> idempotencyService.execute("k".repeat(256), OPERATION,
+                buildCustomerCreateRequestDTO(), created()))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        assertThat(calls).hasValue(0);
+    }
+
+    private Supplier<ResponseEntity<CustomerResponseDTO>> created() {
+        return () -> {
+            calls.incrementAndGet();
+            return new ResponseEntity<>(buildCustomerResponseDTO(), HttpStatus.CREATED);
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class TestResources {
+        static final String KEY = "3f0c9a52-6f1e-4c43-9a54-2f3b8e1d7c10";
+        static final String OPERATION = "POST /api/customers";
+
+        static CustomerCreateRequestDTO buildCustomerCreateRequestDTO() {
+            return CustomerCreateRequestDTO.builder()
+                    .fullName("John Doe")
+                    .email("john.doe@example.com")
+                    .phone("+380123321123")
+                    .build();
+        }
+
+        static CustomerResponseDTO buildCustomerResponseDTO() {
+            return CustomerResponseDTO.builder()
+                    .id(1L)
+                    .fullName("John Doe")
+                    .email("john.doe@example.com")
+                    .phone("+380123321123")
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.test.customercrud.service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.customercrud.dto.CustomerResponseDTO;
+import com.test.customercrud.dto.IdempotentResponseDTO;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import static com.test.customercrud.service.idempotency.JdbcIdempotencyStoreTest.TestResources.KEY;
+import static com.test.customercrud.service.idempotency.JdbcIdempotencyStoreTest.TestResources.buildResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JdbcIdempotencyStoreTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    private JdbcIdempotencyStore store;
+
+    @BeforeEach
+    void beforeEach() {
+        store = new JdbcIdempotencyStore(jdbcTemplate, new ObjectMapper(), Duration.ofHours(1));
+    }
+
+    @Test
+    void givenSavedResponse_whenFind_thenResponseReturned() {
+        store.save(KEY, buildResponse("first"));
+        store.save(KEY, buildResponse("second"));
+
+        assertThat(store.find(KEY)).contains(buildResponse("first"));
+        assertThat(store.find("unknown")).isEmpty();
+    }
+
+    @Test
+    void givenExpiredResponse_whenFindAndPurge_thenIgnoredAndDeleted() {
+        store.save(KEY, buildResponse("first"));
+        jdbcTemplate.update("UPDATE idempotency_keys SET created = created - ?", Duration.ofHours(2).toMillis());
+
+        assertThat(store.find(KEY)).isEmpty();
+        store.purgeExpired();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys", Long.class)).isZero();
+    }
+
+    @Test
+    void givenExpiredUnpurgedResponse_whenSave_thenReplaced() {
+        store.save(KEY, buildResponse("first"));
+        jdbcTemplate.update("UPDATE idempotency_keys SET created = created - ?", Duration.ofHours(2).toMillis());
+
+        store.save(KEY, buildResponse("second"));
+
+        assertThat(store.find(KEY)).contains(buildResponse("second"));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys", Long.class)).isEqualTo(1);
+    }
+
+    static class TestResources {
+        static final String KEY = "3f0c9a52-6f1e-4c43-9a54-2f3b8e1d7c10";
+
+        static IdempotentResponseDTO buildResponse(String fingerprint) {
+            return IdempotentResponseDTO.builder()
+                    .fingerprint(fingerprint)
+                    .status(201)
+                    .body(CustomerResponseDTO.builder()
+                            .id(1L)
+                            .fullName("John Doe")
+                            .email("john.doe@example.com")
+                            .build())
+                    .build();
+        }
+    }
+}